@@ -0,0 +1,122 @@
+package bench;
+
+import com.microsoft.playwright.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pages.BoardPage;
+import stub.TrackerState;
+import stub.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How board rendering and board queries scale with the number of tasks: the stub serves the seed data plus
+ * one synthetic board with 100, 1 000 or 10 000 tasks spread over To Do, In Progress and Done.
+ * Average time per operation; {@link ScalabilityPlot} turns the JSON result into a table and chart by board size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class BoardScalabilityBenchmarks {
+
+    // Task status -> board column it is rendered in
+    private static final String[][] STATUSES = {{"Backlog", "To Do"}, {"InProgress", "In Progress"}, {"Done", "Done"}};
+    private static final String[] PRIORITIES = {"Low", "Medium", "High"};
+
+    /**
+     * Stub with the synthetic board and one browser, shared by the whole trial
+     */
+    @State(Scope.Benchmark)
+    public static class Fixture {
+        @Param({"100", "1000", "10000"})
+        int tasks;
+
+        TrackerFixture tracker;
+        String boardId;
+        String lastTask;
+        String lastTaskColumn;
+
+        @Setup(Level.Trial)
+        public void start() {
+            TrackerState state = TrackerState.seed();
+            List<User> users = state.users();
+            int board = state.createBoard("Доска на " + tasks + " задач", "Синтетические данные для замера масштабируемости").getId();
+            for (int i = 0; i < tasks; i++) {
+                // Zero-padded so that no title is a substring of another one
+                state.createTask(String.format("Задача масштаба %05d", i), "Проверка отрисовки больших досок",
+                        PRIORITIES[i % PRIORITIES.length], STATUSES[i % STATUSES.length][0], board,
+                        users.get(i % users.size()).getId());
+            }
+            boardId = String.valueOf(board);
+            lastTask = String.format("Задача масштаба %05d", tasks - 1);
+            lastTaskColumn = STATUSES[(tasks - 1) % STATUSES.length][1];
+
+            tracker = TrackerFixture.start(state);
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            tracker.close();
+        }
+    }
+
+    /**
+     * The synthetic board opened at the start of every iteration
+     */
+    @State(Scope.Thread)
+    public static class Board {
+        Page page;
+        BoardPage boardPage;
+
+        @Setup(Level.Iteration)
+        public void open(Fixture fixture) {
+            page = fixture.tracker.newPage();
+            boardPage = new BoardPage(page);
+            boardPage.open(fixture.boardId);
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() {
+            TrackerFixture.closePage(page);
+        }
+    }
+
+    @Benchmark
+    public void openFirstRender(Fixture fixture, Board board) {
+        board.boardPage.openUntilFirstTask(fixture.boardId);
+    }
+
+    @Benchmark
+    public void openFullRender(Fixture fixture, Board board) {
+        board.boardPage.open(fixture.boardId);
+    }
+
+    @Benchmark
+    public int scrollColumns(Board board) {
+        return board.boardPage.scrollColumnsToEnd();
+    }
+
+    @Benchmark
+    public int totalTaskCount(Board board) {
+        return board.boardPage.getTotalTaskCount();
+    }
+
+    @Benchmark
+    public boolean isLastTaskInColumn(Fixture fixture, Board board) {
+        return board.boardPage.isTaskInColumn(fixture.lastTask, fixture.lastTaskColumn);
+    }
+}
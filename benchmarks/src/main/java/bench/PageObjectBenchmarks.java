@@ -0,0 +1,129 @@
+package bench;
+
+import com.microsoft.playwright.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import pages.BoardPage;
+import pages.IssuesPage;
+import pages.TaskCardModal;
+import stub.TrackerState;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency of page-object operations against the fixture front end
+ * served by the local TaskTrackerStub, so results do not depend on the network or the live site.
+ * The run profile defaults to "perf"; any profile key can still be overridden with -jvmArgs "-Dkey=value".
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class PageObjectBenchmarks {
+
+    private static final String[] QUERIES = {"Оптимизация", "Редизайн", "Реализация", "Рефакторинг"};
+    private static final String KNOWN_TASK = "Реализация темной темы";
+
+    /**
+     * Stub with the seed data and one browser, shared by the whole trial
+     */
+    @State(Scope.Benchmark)
+    public static class Fixture {
+        TrackerFixture tracker;
+
+        @Setup(Level.Trial)
+        public void start() {
+            tracker = TrackerFixture.start(TrackerState.seed());
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() {
+            tracker.close();
+        }
+    }
+
+    /**
+     * Issues page opened on fresh data at the start of every iteration
+     */
+    @State(Scope.Thread)
+    public static class Issues {
+        Page page;
+        IssuesPage issuesPage;
+        int query;
+
+        @Setup(Level.Iteration)
+        public void open(Fixture fixture) {
+            fixture.tracker.stub.reset();
+            page = fixture.tracker.newPage();
+            issuesPage = new IssuesPage(page);
+            issuesPage.open();
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() {
+            TrackerFixture.closePage(page);
+        }
+
+        String nextQuery() {
+            return QUERIES[query++ % QUERIES.length];
+        }
+    }
+
+    /**
+     * Board 1 opened at the start of every iteration
+     */
+    @State(Scope.Thread)
+    public static class Board {
+        Page page;
+        BoardPage boardPage;
+
+        @Setup(Level.Iteration)
+        public void open(Fixture fixture) {
+            fixture.tracker.stub.reset();
+            page = fixture.tracker.newPage();
+            boardPage = new BoardPage(page);
+            boardPage.open("1");
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() {
+            TrackerFixture.closePage(page);
+        }
+    }
+
+    @Benchmark
+    public int searchTask(Issues issues) {
+        issues.issuesPage.searchTask(issues.nextQuery());
+        return issues.query;
+    }
+
+    @Benchmark
+    public int boardTotalTaskCount(Board board) {
+        return board.boardPage.getTotalTaskCount();
+    }
+
+    @Benchmark
+    public boolean openAndCloseTaskCard(Issues issues) {
+        TaskCardModal taskCard = issues.issuesPage.openTaskCard(KNOWN_TASK);
+        taskCard.close();
+        return taskCard.isModalVisible();
+    }
+
+    @Benchmark
+    public int createTask(Issues issues) {
+        issues.issuesPage.openCreateTaskModal()
+                .createTask("Бенчмарк " + issues.query++, "Оптимизация производительности", "High", "Илья Романов");
+        return issues.query;
+    }
+}
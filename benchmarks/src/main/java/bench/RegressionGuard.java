@@ -0,0 +1,104 @@
+package bench;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Compares a JMH JSON result (-rf json) with a stored baseline and exits with status 1
+ * when any benchmark got slower than the allowed tolerance.
+ * Usage: RegressionGuard &lt;baseline.json&gt; &lt;result.json&gt; [tolerancePercent, default 10]
+ */
+public final class RegressionGuard {
+
+    private RegressionGuard() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: RegressionGuard <baseline.json> <result.json> [tolerancePercent]");
+            System.exit(2);
+        }
+        double tolerance = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.10;
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("NEW        %-70s %12.4f %s%n", entry.getKey(), now.value, now.unit);
+                continue;
+            }
+            // Positive change always means "worse": less throughput or more time per operation
+            double change = now.higherIsBetter
+                    ? (before.value - now.value) / before.value
+                    : (now.value - before.value) / before.value;
+            boolean regressed = change > tolerance;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-10s %-70s %12.4f -> %12.4f %s (%+.1f%%)%n", regressed ? "REGRESSED" : "OK",
+                    entry.getKey(), before.value, now.value, now.unit, change * 100);
+        }
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.0f%%%n", regressions, tolerance * 100);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonArray results = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : results) {
+                JsonObject result = element.getAsJsonObject();
+                String mode = result.get("mode").getAsString();
+                JsonObject metric = result.getAsJsonObject("primaryMetric");
+                scores.put(result.get("benchmark").getAsString() + params(result) + " [" + mode + "]",
+                        new Score(metric.get("score").getAsDouble(), metric.get("scoreUnit").getAsString(),
+                                "thrpt".equals(mode)));
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * "(tasks=1000)" for a @Param benchmark, sorted by parameter name; empty without parameters
+     */
+    private static String params(JsonObject result) {
+        JsonObject params = result.getAsJsonObject("params");
+        if (params == null || params.size() == 0) {
+            return "";
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        params.entrySet().forEach(e -> sorted.put(e.getKey(), e.getValue().getAsString()));
+        return sorted.entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+
+    private static final class Score {
+        final double value;
+        final String unit;
+        final boolean higherIsBetter;
+
+        Score(double value, String unit, boolean higherIsBetter) {
+            this.value = value;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+    }
+}
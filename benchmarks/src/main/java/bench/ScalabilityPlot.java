@@ -0,0 +1,212 @@
+package bench;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Turns a JMH JSON result of {@link BoardScalabilityBenchmarks} (-rf json) into board-scalability.csv and a
+ * log-log chart board-scalability.svg of time per operation against the number of tasks, and prints the
+ * scaling exponent between neighbouring sizes (1 = linear; above 1 the operation degrades faster than the data grows).
+ * Usage: ScalabilityPlot &lt;result.json&gt; [output directory, default .]
+ */
+public final class ScalabilityPlot {
+
+    private static final String BENCHMARK_CLASS = BoardScalabilityBenchmarks.class.getName() + ".";
+    private static final String SIZE_PARAM = "tasks";
+    private static final String[] COLORS = {"#1f77b4", "#d62728", "#2ca02c", "#ff7f0e", "#9467bd", "#8c564b"};
+    private static final int WIDTH = 720;
+    private static final int HEIGHT = 440;
+    private static final int MARGIN = 60;
+
+    private ScalabilityPlot() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ScalabilityPlot <result.json> [outputDir]");
+            System.exit(2);
+        }
+        Path outputDir = Path.of(args.length > 1 ? args[1] : ".");
+        Map<String, TreeMap<Integer, Double>> series = read(Path.of(args[0]));
+        if (series.isEmpty()) {
+            System.err.println("No " + BENCHMARK_CLASS + "* results with a \"" + SIZE_PARAM + "\" parameter in " + args[0]);
+            System.exit(2);
+        }
+        Files.createDirectories(outputDir);
+        Files.writeString(outputDir.resolve("board-scalability.csv"), csv(series), StandardCharsets.UTF_8);
+        Files.writeString(outputDir.resolve("board-scalability.svg"), svg(series), StandardCharsets.UTF_8);
+        print(series);
+        System.out.println("Written " + outputDir.resolve("board-scalability.csv") + " and "
+                + outputDir.resolve("board-scalability.svg"));
+    }
+
+    /**
+     * Benchmark method -> tasks -> ms per operation
+     */
+    private static Map<String, TreeMap<Integer, Double>> read(Path file) throws IOException {
+        Map<String, TreeMap<Integer, Double>> series = new TreeMap<>();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (JsonElement element : JsonParser.parseReader(reader).getAsJsonArray()) {
+                JsonObject result = element.getAsJsonObject();
+                String benchmark = result.get("benchmark").getAsString();
+                JsonObject params = result.getAsJsonObject("params");
+                if (!benchmark.startsWith(BENCHMARK_CLASS) || params == null || !params.has(SIZE_PARAM)) {
+                    continue;
+                }
+                JsonObject metric = result.getAsJsonObject("primaryMetric");
+                series.computeIfAbsent(benchmark.substring(BENCHMARK_CLASS.length()), k -> new TreeMap<>())
+                        .put(params.get(SIZE_PARAM).getAsInt(),
+                                toMillis(metric.get("score").getAsDouble(), metric.get("scoreUnit").getAsString()));
+            }
+        }
+        return series;
+    }
+
+    private static double toMillis(double score, String unit) {
+        switch (unit) {
+            case "s/op":
+                return score * 1000;
+            case "us/op":
+                return score / 1000;
+            case "ns/op":
+                return score / 1_000_000;
+            case "ms/op":
+                return score;
+            default:
+                throw new IllegalArgumentException("Expected a time per operation, got " + unit + " (run in avgt mode)");
+        }
+    }
+
+    /**
+     * ln(t2/t1) / ln(n2/n1) between two board sizes
+     */
+    private static double exponent(int n1, double t1, int n2, double t2) {
+        return Math.log(t2 / t1) / Math.log((double) n2 / n1);
+    }
+
+    private static String csv(Map<String, TreeMap<Integer, Double>> series) {
+        StringBuilder csv = new StringBuilder("benchmark,tasks,msPerOp,exponentFromPrevious\n");
+        series.forEach((benchmark, points) -> {
+            Map.Entry<Integer, Double> previous = null;
+            for (Map.Entry<Integer, Double> point : points.entrySet()) {
+                csv.append(String.format(Locale.ROOT, "%s,%d,%.4f,%s%n", benchmark, point.getKey(), point.getValue(),
+                        previous == null ? "" : String.format(Locale.ROOT, "%.2f",
+                                exponent(previous.getKey(), previous.getValue(), point.getKey(), point.getValue()))));
+                previous = point;
+            }
+        });
+        return csv.toString();
+    }
+
+    private static void print(Map<String, TreeMap<Integer, Double>> series) {
+        series.forEach((benchmark, points) -> {
+            StringBuilder line = new StringBuilder(String.format("%-20s", benchmark));
+            Map.Entry<Integer, Double> previous = null;
+            for (Map.Entry<Integer, Double> point : points.entrySet()) {
+                line.append(String.format("  %6d: %10.3f ms", point.getKey(), point.getValue()));
+                if (previous != null) {
+                    double k = exponent(previous.getKey(), previous.getValue(), point.getKey(), point.getValue());
+                    line.append(String.format(" (x^%.2f%s)", k, k > 1.1 ? " superlinear" : ""));
+                }
+                previous = point;
+            }
+            System.out.println(line);
+        });
+    }
+
+    private static String svg(Map<String, TreeMap<Integer, Double>> series) {
+        double minN = Double.MAX_VALUE;
+        double maxN = 0;
+        double minT = Double.MAX_VALUE;
+        double maxT = 0;
+        for (TreeMap<Integer, Double> points : series.values()) {
+            minN = Math.min(minN, points.firstKey());
+            maxN = Math.max(maxN, points.lastKey());
+            for (double t : points.values()) {
+                minT = Math.min(minT, t);
+                maxT = Math.max(maxT, t);
+            }
+        }
+        // Whole decades on both log axes
+        double x0 = Math.floor(Math.log10(minN));
+        double x1 = Math.max(x0 + 1, Math.ceil(Math.log10(maxN)));
+        double y0 = Math.floor(Math.log10(Math.max(minT, 1e-4)));
+        double y1 = Math.max(y0 + 1, Math.ceil(Math.log10(Math.max(maxT, 1e-4))));
+        Axis x = new Axis(x0, x1, MARGIN, WIDTH - MARGIN - 160);
+        Axis y = new Axis(y0, y1, HEIGHT - MARGIN, MARGIN);
+
+        StringBuilder svg = new StringBuilder(String.format(Locale.ROOT,
+                "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"%d\" height=\"%d\" font-family=\"sans-serif\" font-size=\"12\">%n"
+                        + "<rect width=\"100%%\" height=\"100%%\" fill=\"white\"/>%n", WIDTH, HEIGHT));
+        for (double d = x0; d <= x1; d++) {
+            svg.append(String.format(Locale.ROOT, "<line x1=\"%.1f\" y1=\"%d\" x2=\"%.1f\" y2=\"%d\" stroke=\"#ddd\"/>"
+                            + "<text x=\"%.1f\" y=\"%d\" text-anchor=\"middle\">%s</text>%n",
+                    x.at(d), MARGIN, x.at(d), HEIGHT - MARGIN, x.at(d), HEIGHT - MARGIN + 18, decade(d)));
+        }
+        for (double d = y0; d <= y1; d++) {
+            svg.append(String.format(Locale.ROOT, "<line x1=\"%d\" y1=\"%.1f\" x2=\"%d\" y2=\"%.1f\" stroke=\"#ddd\"/>"
+                            + "<text x=\"%d\" y=\"%.1f\" text-anchor=\"end\">%s</text>%n",
+                    MARGIN, y.at(d), WIDTH - MARGIN - 160, y.at(d), MARGIN - 6, y.at(d) + 4, decade(d)));
+        }
+        svg.append(String.format(Locale.ROOT, "<text x=\"%d\" y=\"%d\" text-anchor=\"middle\">tasks on the board</text>%n"
+                        + "<text x=\"14\" y=\"%d\" transform=\"rotate(-90 14 %d)\" text-anchor=\"middle\">ms per operation</text>%n",
+                (WIDTH - 160) / 2, HEIGHT - 16, HEIGHT / 2, HEIGHT / 2));
+
+        int color = 0;
+        for (Map.Entry<String, TreeMap<Integer, Double>> entry : series.entrySet()) {
+            String stroke = COLORS[color % COLORS.length];
+            List<String> coordinates = new ArrayList<>();
+            entry.getValue().forEach((n, t) -> coordinates.add(String.format(Locale.ROOT, "%.1f,%.1f",
+                    x.at(Math.log10(n)), y.at(Math.log10(Math.max(t, 1e-4))))));
+            svg.append(String.format("<polyline points=\"%s\" fill=\"none\" stroke=\"%s\" stroke-width=\"2\"/>%n",
+                    String.join(" ", coordinates), stroke));
+            for (String point : coordinates) {
+                String[] xy = point.split(",");
+                svg.append(String.format("<circle cx=\"%s\" cy=\"%s\" r=\"3\" fill=\"%s\"/>%n", xy[0], xy[1], stroke));
+            }
+            svg.append(String.format(Locale.ROOT, "<rect x=\"%d\" y=\"%d\" width=\"12\" height=\"12\" fill=\"%s\"/>"
+                            + "<text x=\"%d\" y=\"%d\">%s</text>%n",
+                    WIDTH - 200, MARGIN + color * 20, stroke, WIDTH - 182, MARGIN + color * 20 + 11, entry.getKey()));
+            color++;
+        }
+        return svg.append("</svg>\n").toString();
+    }
+
+    private static String decade(double exponent) {
+        double value = Math.pow(10, exponent);
+        return value >= 1 ? String.format("%,.0f", value) : String.format(Locale.ROOT, "%s", value);
+    }
+
+    /**
+     * Maps a log10 value to pixels
+     */
+    private static final class Axis {
+        final double from;
+        final double to;
+        final double start;
+        final double end;
+
+        Axis(double from, double to, double start, double end) {
+            this.from = from;
+            this.to = to;
+            this.start = start;
+            this.end = end;
+        }
+
+        double at(double log) {
+            return start + (log - from) / (to - from) * (end - start);
+        }
+    }
+}
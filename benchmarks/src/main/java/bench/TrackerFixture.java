@@ -0,0 +1,63 @@
+package bench;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import config.RunProfile;
+import load.LoadRunner;
+import metrics.WebPerf;
+import stub.TaskTrackerStub;
+import stub.TrackerState;
+
+/**
+ * Local TaskTrackerStub serving the given state and its fixture front end, plus one browser,
+ * shared by all threads of a benchmark trial. Pages are opened in their own contexts.
+ */
+final class TrackerFixture implements AutoCloseable {
+
+    final TaskTrackerStub stub;
+    private final Playwright playwright;
+    private final Browser browser;
+
+    private TrackerFixture(TaskTrackerStub stub, Playwright playwright, Browser browser) {
+        this.stub = stub;
+        this.playwright = playwright;
+        this.browser = browser;
+    }
+
+    static TrackerFixture start(TrackerState state) {
+        // As in LoadRunner: the perf profile, but no Web perf capture on every open unless asked for
+        LoadRunner.defaultProperty("profile", "perf");
+        LoadRunner.defaultProperty("webPerf", "false");
+        TaskTrackerStub stub = TaskTrackerStub.start(state);
+        System.setProperty("baseUrl", stub.url());
+        RunProfile profile = RunProfile.current();
+        Playwright playwright = Playwright.create();
+        return new TrackerFixture(stub, playwright, profile.browserType(playwright).launch(profile.launchOptions()));
+    }
+
+    /**
+     * New page in a fresh context of the shared browser; release it with {@link #closePage(Page)}
+     */
+    Page newPage() {
+        RunProfile profile = RunProfile.current();
+        Page page = browser.newContext(profile.contextOptions()).newPage();
+        page.setDefaultTimeout(profile.defaultTimeout());
+        return page;
+    }
+
+    /**
+     * Closes the page's context and drops the Web perf metrics its opens left on this thread
+     */
+    static void closePage(Page page) {
+        page.context().close();
+        // With -DwebPerf=true every open keeps its metrics on this thread until drained
+        WebPerf.drain();
+    }
+
+    @Override
+    public void close() {
+        playwright.close();
+        stub.close();
+    }
+}
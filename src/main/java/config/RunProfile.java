@@ -0,0 +1,208 @@
+package config;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Run profile with browser, timing and target settings for a test run.
+ * A value is resolved from a system property, then an environment variable in the TT_ namespace
+ * (baseUrl -> TT_BASE_URL, so that common variables such as BROWSER do not leak in), then "&lt;profile&gt;.&lt;key&gt;" and "default.&lt;key&gt;"
+ * in run-profiles.properties (and in the file given by -DprofileFile).
+ */
+public final class RunProfile {
+
+    private static final String PROFILES_RESOURCE = "/run-profiles.properties";
+    private static volatile RunProfile current;
+
+    private final String name;
+    private final Properties properties;
+
+    private RunProfile(String name, Properties properties) {
+        this.name = name;
+        this.properties = properties;
+    }
+
+    /**
+     * Profile selected for this JVM, loaded on first use
+     */
+    public static RunProfile current() {
+        RunProfile profile = current;
+        if (profile == null) {
+            synchronized (RunProfile.class) {
+                if (current == null) {
+                    current = load();
+                }
+                profile = current;
+            }
+        }
+        return profile;
+    }
+
+    /**
+     * Reads the profile selected by the "profile" property (default: "default")
+     */
+    public static RunProfile load() {
+        Properties properties = new Properties();
+        try (InputStream in = RunProfile.class.getResourceAsStream(PROFILES_RESOURCE)) {
+            if (in != null) {
+                properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            }
+            String extraFile = lookup("profileFile");
+            if (extraFile != null) {
+                try (Reader reader = Files.newBufferedReader(Path.of(extraFile), StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read run profiles", e);
+        }
+        String name = lookup("profile");
+        return new RunProfile(name != null ? name : "default", properties);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Raw value for the key, or null if no source defines it
+     */
+    public String get(String key) {
+        String value = lookup(key);
+        if (value == null) {
+            value = properties.getProperty(name + "." + key);
+        }
+        if (value == null) {
+            value = properties.getProperty("default." + key);
+        }
+        return value;
+    }
+
+    public String get(String key, String defaultValue) {
+        String value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = get(key);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = get(key);
+        return value != null ? Double.parseDouble(value.trim()) : defaultValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key);
+        return value != null ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+    public String baseUrl() {
+        return get("baseUrl");
+    }
+
+    public String browser() {
+        return get("browser", "chromium");
+    }
+
+    public boolean headless() {
+        return getBoolean("headless", true);
+    }
+
+    public double slowMo() {
+        return getDouble("slowMo", 0);
+    }
+
+    public double defaultTimeout() {
+        return getDouble("defaultTimeout", 30000);
+    }
+
+    public double modalTimeout() {
+        return getDouble("modalTimeout", 10000);
+    }
+
+    public double settleTimeout() {
+        return getDouble("settleTimeout", 5000);
+    }
+
+    public double settleQuietPeriod() {
+        return getDouble("settleQuietPeriod", 250);
+    }
+
+    public int viewportWidth() {
+        return getInt("viewportWidth", 1920);
+    }
+
+    public int viewportHeight() {
+        return getInt("viewportHeight", 1080);
+    }
+
+    /**
+     * Browser type for the profile's "browser" setting (chromium, firefox or webkit)
+     */
+    public BrowserType browserType(Playwright playwright) {
+        return browserType(playwright, browser());
+    }
+
+    public static BrowserType browserType(Playwright playwright, String browser) {
+        switch (browser.toLowerCase()) {
+            case "chromium":
+            case "chrome":
+                return playwright.chromium();
+            case "firefox":
+                return playwright.firefox();
+            case "webkit":
+                return playwright.webkit();
+            default:
+                throw new IllegalArgumentException("Unknown browser: " + browser);
+        }
+    }
+
+    public BrowserType.LaunchOptions launchOptions() {
+        return new BrowserType.LaunchOptions()
+                .setHeadless(headless())
+                .setSlowMo(slowMo());
+    }
+
+    public Browser.NewContextOptions contextOptions() {
+        return new Browser.NewContextOptions()
+                .setViewportSize(viewportWidth(), viewportHeight());
+    }
+
+    /**
+     * Whether a system property or environment variable sets the key for this JVM
+     */
+    public static boolean isOverridden(String key) {
+        return lookup(key) != null;
+    }
+
+    private static String lookup(String key) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = System.getenv(toEnvName(key));
+        }
+        return value;
+    }
+
+    // baseUrl -> TT_BASE_URL, slowMo -> TT_SLOW_MO
+    private static String toEnvName(String key) {
+        return "TT_" + key.replaceAll("([a-z0-9])([A-Z])", "$1_$2").replace('.', '_').toUpperCase();
+    }
+
+    @Override
+    public String toString() {
+        return "RunProfile[" + name + ", " + browser() + ", headless=" + headless() +
+                ", slowMo=" + slowMo() + ", baseUrl=" + baseUrl() + "]";
+    }
+}
@@ -0,0 +1,196 @@
+package data;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.options.RequestOptions;
+import stub.TaskTrackerStub;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds tasks, boards and assignees directly over the tracker HTTP API
+ * (or the stand-in backend) instead of going through the UI.
+ * The factory remembers every record it creates and {@link #cleanup()} deletes them one by one;
+ * requests also carry the factory's run id (X-Run-Id header) so that leftovers can be traced to a run.
+ */
+public class TestDataFactory implements AutoCloseable {
+
+    private static final String RUN_PREFIX = "run-" + Long.toString(System.currentTimeMillis(), 36);
+    private static final AtomicLong RUN_COUNTER = new AtomicLong();
+
+    private final APIRequestContext api;
+    private final String apiUrl;
+    private final String runId;
+    // API paths of created records, newest first
+    private final Deque<String> created = new ArrayDeque<>();
+    private Map<String, Integer> boardIds;
+    private Map<String, Integer> userIds;
+
+    /**
+     * @param apiUrl       API root, e.g. http://127.0.0.1:8080 (requests go to apiUrl/api/v1/...)
+     * @param extraHeaders headers added to every request, e.g. the stub session
+     */
+    public TestDataFactory(Playwright playwright, String apiUrl, Map<String, String> extraHeaders) {
+        this.apiUrl = apiUrl;
+        this.runId = RUN_PREFIX + "-" + RUN_COUNTER.incrementAndGet();
+        Map<String, String> headers = new HashMap<>(extraHeaders);
+        headers.put(TaskTrackerStub.RUN_HEADER, runId);
+        this.api = playwright.request().newContext(new APIRequest.NewContextOptions()
+                .setBaseURL(apiUrl)
+                .setExtraHTTPHeaders(headers));
+    }
+
+    public String getRunId() {
+        return runId;
+    }
+
+    /**
+     * Creates a task in Backlog and returns its id
+     */
+    public int createTask(String title, String description, String boardName, String priority, String assignee) {
+        JsonObject body = new JsonObject();
+        body.addProperty("title", title);
+        body.addProperty("description", description);
+        body.addProperty("priority", priority);
+        body.addProperty("boardId", boardId(boardName));
+        body.addProperty("assigneeId", userId(assignee));
+        return create("/api/v1/tasks", body);
+    }
+
+    /**
+     * Creates a task and moves it to the given status (Backlog, InProgress, Done)
+     */
+    public int createTaskInStatus(String title, String boardName, String priority, String assignee, String status) {
+        int id = createTask(title, "", boardName, priority, assignee);
+        if (!"Backlog".equals(status)) {
+            updateStatus(id, status);
+        }
+        return id;
+    }
+
+    public void updateStatus(int taskId, String status) {
+        JsonObject body = new JsonObject();
+        body.addProperty("status", status);
+        send(api.put("/api/v1/tasks/updateStatus/" + taskId, RequestOptions.create().setData(body.toString())
+                .setHeader("Content-Type", "application/json")));
+    }
+
+    public int createBoard(String name, String description) {
+        JsonObject body = new JsonObject();
+        body.addProperty("name", name);
+        body.addProperty("description", description);
+        int id = create("/api/v1/boards", body);
+        if (boardIds != null) {
+            boardIds.put(name, id);
+        }
+        return id;
+    }
+
+    public int createAssignee(String fullName, String email) {
+        JsonObject body = new JsonObject();
+        body.addProperty("fullName", fullName);
+        body.addProperty("email", email);
+        int id = create("/api/v1/users", body);
+        if (userIds != null) {
+            userIds.put(fullName, id);
+        }
+        return id;
+    }
+
+    public int boardId(String name) {
+        if (boardIds == null) {
+            boardIds = index("/api/v1/boards", "name");
+        }
+        return require(boardIds, name, "board");
+    }
+
+    public int userId(String fullName) {
+        if (userIds == null) {
+            userIds = index("/api/v1/users", "fullName");
+        }
+        return require(userIds, fullName, "assignee");
+    }
+
+    /**
+     * Deletes every record this factory created, newest first (tasks before the boards they are on), with
+     * DELETE /api/v1/{tasks|boards|users}/{id}. A record that is already gone counts as deleted; if any other
+     * deletion fails, the remaining ones are still tried and an exception lists what was left behind.
+     */
+    public void cleanup() {
+        List<String> left = new ArrayList<>();
+        while (!created.isEmpty()) {
+            String path = created.pop();
+            try {
+                APIResponse response = api.delete(path);
+                if (!response.ok() && response.status() != 404) {
+                    left.add(path + " (" + response.status() + " " + response.statusText() + ")");
+                }
+            } catch (PlaywrightException e) {
+                left.add(path + " (" + e.getMessage().lines().findFirst().orElse("") + ")");
+            }
+        }
+        if (!left.isEmpty()) {
+            throw new IllegalStateException("Test data of run " + runId + " could not be deleted from " + apiUrl
+                    + ", remove it by hand:\n  " + String.join("\n  ", left));
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            cleanup();
+        } finally {
+            api.dispose();
+        }
+    }
+
+    private Map<String, Integer> index(String path, String nameField) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (JsonElement e : send(api.get(path)).getAsJsonArray()) {
+            JsonObject o = e.getAsJsonObject();
+            ids.put(o.get(nameField).getAsString(), o.get("id").getAsInt());
+        }
+        return ids;
+    }
+
+    private static int require(Map<String, Integer> ids, String name, String kind) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown " + kind + ": " + name);
+        }
+        return id;
+    }
+
+    /**
+     * POSTs to collection/create and remembers collection/{id} for {@link #cleanup()}
+     */
+    private int create(String collection, JsonObject body) {
+        int id = post(collection + "/create", body).getAsJsonObject().get("id").getAsInt();
+        created.push(collection + "/" + id);
+        return id;
+    }
+
+    private JsonElement post(String path, JsonObject body) {
+        return send(api.post(path, RequestOptions.create().setData(body.toString())
+                .setHeader("Content-Type", "application/json")));
+    }
+
+    private static JsonElement send(APIResponse response) {
+        if (!response.ok()) {
+            throw new IllegalStateException(response.status() + " " + response.url() + ": " + response.text());
+        }
+        return JsonParser.parseString(response.text()).getAsJsonObject().get("data");
+    }
+}
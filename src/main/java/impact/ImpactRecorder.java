@@ -0,0 +1,75 @@
+package impact;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records which page-object methods and locator constants the test running on the current thread
+ * exercises ("BoardPage.open", "BoardPage.TODO_COLUMN"). Idle unless the thread called {@link #begin()}.
+ */
+public final class ImpactRecorder {
+
+    private static final ThreadLocal<Set<String>> CURRENT = new ThreadLocal<>();
+    // page class -> selector value -> "DeclaringClass.CONSTANT"
+    private static final Map<Class<?>, Map<String, String>> CONSTANTS = new ConcurrentHashMap<>();
+
+    private ImpactRecorder() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new TreeSet<>());
+    }
+
+    /**
+     * Stops recording on this thread and returns what was used since {@link #begin()}
+     */
+    public static Set<String> end() {
+        Set<String> used = CURRENT.get();
+        CURRENT.remove();
+        return used != null ? used : Collections.emptySet();
+    }
+
+    public static void method(Class<?> pageClass, String method) {
+        Set<String> used = CURRENT.get();
+        if (used != null) {
+            used.add(pageClass.getSimpleName() + "." + method);
+        }
+    }
+
+    /**
+     * Records the static String constant of the page class (or its superclasses) holding this selector, if any
+     */
+    public static void selector(Class<?> pageClass, String selectorList) {
+        Set<String> used = CURRENT.get();
+        if (used != null) {
+            String constant = CONSTANTS.computeIfAbsent(pageClass, ImpactRecorder::constants).get(selectorList);
+            if (constant != null) {
+                used.add(constant);
+            }
+        }
+    }
+
+    private static Map<String, String> constants(Class<?> pageClass) {
+        Map<String, String> constants = new HashMap<>();
+        for (Class<?> c = pageClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) && field.getType() == String.class) {
+                    try {
+                        field.setAccessible(true);
+                        constants.putIfAbsent((String) field.get(null), c.getSimpleName() + "." + field.getName());
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        // inaccessible constant: not attributable, skip
+                    }
+                }
+            }
+        }
+        return constants;
+    }
+}
@@ -0,0 +1,155 @@
+package load;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import config.RunProfile;
+import metrics.Latency;
+import metrics.LatencyHistogram;
+import stub.TaskTrackerStub;
+import stub.TrackerState;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drives concurrent virtual users through the page-object flows (open issues, search,
+ * open card, change status, view board) against the local stand-in backend and its fixture UI.
+ * Users are spread over worker threads that each own one Playwright driver and browser;
+ * every user has its own browser context and stub session.
+ * Settings are run profile keys: users, workers (default: min(users, cores)), rampUp (s), thinkTime (ms), duration (s).
+ * Writes per-flow throughput, errors and latency percentiles to target/reports/load.json.
+ */
+public final class LoadRunner {
+
+    private static final Path REPORT = Path.of("target", "reports", "load.json");
+
+    private final int users;
+    private final int workers;
+    private final long rampUpMs;
+    private final long thinkTimeMs;
+    private final long durationMs;
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Set<String> logged = ConcurrentHashMap.newKeySet();
+
+    public LoadRunner(int users, int workers, long rampUpMs, long thinkTimeMs, long durationMs) {
+        this.users = users;
+        this.workers = Math.max(1, Math.min(users, workers));
+        this.rampUpMs = rampUpMs;
+        this.thinkTimeMs = thinkTimeMs;
+        this.durationMs = durationMs;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        // Measurements run without slow motion and without per-open Web perf capture unless asked for
+        defaultProperty("profile", "perf");
+        defaultProperty("webPerf", "false");
+        RunProfile profile = RunProfile.current();
+        int users = profile.getInt("users", 10);
+        LoadRunner runner = new LoadRunner(users,
+                profile.getInt("workers", Math.min(users, Runtime.getRuntime().availableProcessors())),
+                profile.getInt("rampUp", 10) * 1000L,
+                profile.getInt("thinkTime", 1000),
+                profile.getInt("duration", 60) * 1000L);
+
+        JsonObject report;
+        try (TaskTrackerStub stub = TaskTrackerStub.start(TrackerState.seed(), profile.getInt("stubPort", 0))) {
+            System.setProperty("baseUrl", stub.url());
+            report = runner.run(stub);
+        }
+        String json = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(report);
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, json, StandardCharsets.UTF_8);
+        System.out.println(json);
+    }
+
+    /**
+     * Runs all users to completion and returns the per-flow report
+     */
+    public JsonObject run(TaskTrackerStub stub) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(workers, r -> new Thread(r, "load-worker"));
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        LoadWorker[] pool = new LoadWorker[workers];
+        for (int i = 0; i < workers; i++) {
+            pool[i] = new LoadWorker();
+        }
+        // Round robin, so the ramp-up is spread over all workers
+        for (int i = 0; i < users; i++) {
+            long startDelayMs = users > 1 ? rampUpMs * i / (users - 1) : 0;
+            pool[i % workers].add(new VirtualUser(this, stub, start + TimeUnit.MILLISECONDS.toNanos(startDelayMs), deadline));
+        }
+        for (LoadWorker worker : pool) {
+            executor.execute(worker);
+        }
+        executor.shutdown();
+        // Users stop at the deadline; allow the last flow to finish within the default timeout
+        executor.awaitTermination(durationMs + (long) (RunProfile.current().defaultTimeout() * 2), TimeUnit.MILLISECONDS);
+        executor.shutdownNow();
+        return report((System.nanoTime() - start) / 1e9);
+    }
+
+    long thinkTimeMs() {
+        return thinkTimeMs;
+    }
+
+    void recordSuccess(String flow, long nanos) {
+        latencies.computeIfAbsent(flow, k -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    /**
+     * Counts a failed flow; the first failure of every flow is logged so the counts can be explained
+     */
+    void recordError(String flow, RuntimeException e) {
+        errors.computeIfAbsent(flow, k -> new LongAdder()).increment();
+        if (logged.add(flow)) {
+            System.err.println("First " + flow + " error: " + e);
+        }
+    }
+
+    /**
+     * {"users": 10, "elapsedSec": .., "flows": {"search": {"count", "throughputPerSec", "errors", "p50Ms", ...}}}
+     */
+    private JsonObject report(double elapsedSeconds) {
+        JsonObject flows = Latency.report(new TreeMap<>(latencies));
+        errors.keySet().forEach(flow -> {
+            if (!flows.has(flow)) {
+                JsonObject o = new JsonObject();
+                o.addProperty("count", 0);
+                flows.add(flow, o);
+            }
+        });
+        flows.keySet().forEach(flow -> {
+            JsonObject o = flows.getAsJsonObject(flow);
+            o.addProperty("throughputPerSec", Math.round(o.get("count").getAsLong() / elapsedSeconds * 100) / 100.0);
+            o.addProperty("errors", errors.containsKey(flow) ? errors.get(flow).sum() : 0);
+        });
+        JsonObject report = new JsonObject();
+        report.addProperty("users", users);
+        report.addProperty("workers", workers);
+        report.addProperty("rampUpSec", rampUpMs / 1000.0);
+        report.addProperty("thinkTimeMs", thinkTimeMs);
+        report.addProperty("elapsedSec", Math.round(elapsedSeconds * 10) / 10.0);
+        report.add("flows", flows);
+        return report;
+    }
+
+    /**
+     * Sets a profile key as a system property unless it was given on the command line or in the environment
+     */
+    public static void defaultProperty(String key, String value) {
+        if (!RunProfile.isOverridden(key)) {
+            System.setProperty(key, value);
+        }
+    }
+}
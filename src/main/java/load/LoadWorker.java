@@ -0,0 +1,63 @@
+package load;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import config.RunProfile;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * One load thread with its own Playwright driver and browser (Playwright objects are thread-confined,
+ * as in {@code BrowserPool}). It interleaves its virtual users, each in its own context, always stepping
+ * the user whose next flow is due first and sleeping through the think times in between.
+ */
+final class LoadWorker implements Runnable {
+
+    private final List<VirtualUser> users = new ArrayList<>();
+
+    void add(VirtualUser user) {
+        users.add(user);
+    }
+
+    @Override
+    public void run() {
+        if (users.isEmpty()) {
+            return;
+        }
+        RunProfile profile = RunProfile.current();
+        PriorityQueue<VirtualUser> due = new PriorityQueue<>(Comparator.comparingLong(VirtualUser::wakeAt));
+        due.addAll(users);
+        try (Playwright playwright = Playwright.create()) {
+            Browser browser = profile.browserType(playwright).launch(profile.launchOptions());
+            try {
+                VirtualUser user;
+                while ((user = due.poll()) != null && !user.finished() && sleepUntil(user.wakeAt())) {
+                    user.step(browser);
+                    due.add(user);
+                }
+            } finally {
+                users.forEach(VirtualUser::close);
+            }
+        }
+    }
+
+    /**
+     * False if the thread was interrupted while waiting
+     */
+    private static boolean sleepUntil(long nanoTime) {
+        long millis = (nanoTime - System.nanoTime()) / 1_000_000;
+        if (millis <= 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package load;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import config.RunProfile;
+import metrics.Latency;
+import metrics.LatencyHistogram;
+import pages.BoardPage;
+import pages.IssuesPage;
+import pages.TaskCardModal;
+import stub.TaskTrackerStub;
+import stub.TrackerState;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Endurance run: one warm browser loops the tracker scenarios (open issues, search, open card, change status,
+ * board navigation) against the local stand-in backend, every pass in a fresh context as in a test.
+ * Every window the latency histograms are drained ({@link Latency#drain()}); an operation drifts when its p95
+ * trends upward over the windows and the last window is more than soakDriftPct above the first.
+ * Open contexts and JVM heap are reported per window to tell harness leaks from app slowdowns.
+ * Settings are run profile keys: soakHours, soakWindowMin, soakDriftPct, thinkTime (ms).
+ * Writes target/reports/soak.json after every window; exits with 1 if any operation drifted.
+ */
+public final class SoakRunner {
+
+    private static final Path REPORT = Path.of("target", "reports", "soak.json");
+    private static final String SCENARIO = "scenario.";
+    // Fewer windows cannot tell a trend from noise
+    private static final int MIN_WINDOWS = 3;
+
+    private final long durationMs;
+    private final long windowMs;
+    private final long thinkTimeMs;
+    private final double driftPct;
+    private final List<JsonObject> windows = new ArrayList<>();
+    private final Map<String, List<Double>> p95 = new TreeMap<>();
+    private final Map<String, Long> errors = new TreeMap<>();
+    private final Set<String> logged = new HashSet<>();
+
+    public SoakRunner(long durationMs, long windowMs, long thinkTimeMs, double driftPct) {
+        this.durationMs = durationMs;
+        this.windowMs = windowMs;
+        this.thinkTimeMs = thinkTimeMs;
+        this.driftPct = driftPct;
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadRunner.defaultProperty("profile", "perf");
+        LoadRunner.defaultProperty("webPerf", "false");
+        RunProfile profile = RunProfile.current();
+        SoakRunner runner = new SoakRunner((long) (profile.getDouble("soakHours", 1) * 3_600_000),
+                (long) (profile.getDouble("soakWindowMin", 5) * 60_000),
+                profile.getInt("thinkTime", 500),
+                profile.getDouble("soakDriftPct", 20));
+
+        JsonObject report;
+        try (TaskTrackerStub stub = TaskTrackerStub.start(TrackerState.seed(), profile.getInt("stubPort", 0))) {
+            System.setProperty("baseUrl", stub.url());
+            report = runner.run(stub);
+        }
+        System.out.println(new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create()
+                .toJson(report.getAsJsonObject("drift")));
+        System.exit(report.get("drifting").getAsInt() > 0 ? 1 : 0);
+    }
+
+    /**
+     * Loops the scenarios until the duration is over and returns the final report
+     */
+    public JsonObject run(TaskTrackerStub stub) throws IOException {
+        RunProfile profile = RunProfile.current();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        long windowEnd = start + TimeUnit.MILLISECONDS.toNanos(windowMs);
+        String session = stub.fork();
+        JsonObject report = report();
+        try (Playwright playwright = Playwright.create()) {
+            Browser browser = profile.browserType(playwright).launch(profile.launchOptions());
+            Latency.drain();
+            long passes = 0;
+            while (System.nanoTime() < end) {
+                if (pass(browser, stub, session, profile)) {
+                    passes++;
+                }
+                long now = System.nanoTime();
+                if (now >= windowEnd || now >= end) {
+                    closeWindow(browser, passes, (now - start) / 60e9);
+                    passes = 0;
+                    windowEnd += TimeUnit.MILLISECONDS.toNanos(windowMs);
+                    report = report();
+                    write(report);
+                }
+            }
+        } finally {
+            stub.release(session);
+        }
+        return report;
+    }
+
+    /**
+     * One pass through all scenarios in a new context; a failed scenario abandons the pass and returns false
+     */
+    private boolean pass(Browser browser, TaskTrackerStub stub, String session, RunProfile profile) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        BrowserContext context = browser.newContext(profile.contextOptions());
+        try {
+            stub.route(context, profile.get("apiPattern"), session);
+            Page page = context.newPage();
+            page.setDefaultTimeout(profile.defaultTimeout());
+            IssuesPage issuesPage = new IssuesPage(page);
+            BoardPage boardPage = new BoardPage(page);
+            String query = VirtualUser.QUERIES[random.nextInt(VirtualUser.QUERIES.length)];
+            TaskCardModal[] taskCard = new TaskCardModal[1];
+            return step("openIssues", issuesPage::open)
+                    && step("search", () -> issuesPage.searchTask(query))
+                    && step("openCard", () -> taskCard[0] = issuesPage.openTaskCard(query))
+                    && step("changeStatus", () -> {
+                        taskCard[0].setStatus(VirtualUser.STATUSES[random.nextInt(VirtualUser.STATUSES.length)]);
+                        taskCard[0].clickUpdate();
+                    })
+                    && step("viewBoard", () -> {
+                        boardPage.open(String.valueOf(1 + random.nextInt(VirtualUser.BOARDS)));
+                        boardPage.snapshot();
+                    });
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Runs one scenario timed as "scenario.&lt;name&gt;" next to the page-object operations, then thinks
+     */
+    private boolean step(String scenario, Runnable body) {
+        boolean succeeded;
+        try {
+            Latency.time(SCENARIO + scenario, body);
+            succeeded = true;
+        } catch (RuntimeException e) {
+            errors.merge(scenario, 1L, Long::sum);
+            // Window counts alone do not say what broke; log the first failure of every scenario
+            if (logged.add(scenario)) {
+                System.err.println("First " + scenario + " error: " + e);
+            }
+            succeeded = false;
+        }
+        try {
+            Thread.sleep(thinkTimeMs / 2 + ThreadLocalRandom.current().nextLong(thinkTimeMs + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return succeeded;
+    }
+
+    private void closeWindow(Browser browser, long passes, double elapsedMin) {
+        Map<String, LatencyHistogram> histograms = Latency.drain();
+        histograms.forEach((operation, h) -> {
+            List<Double> series = p95.computeIfAbsent(operation, k -> new ArrayList<>());
+            // Operations missing from earlier windows start their series late
+            while (series.size() < windows.size()) {
+                series.add(null);
+            }
+            series.add(h.percentile(95) / 1000.0);
+        });
+        Runtime runtime = Runtime.getRuntime();
+        JsonObject window = new JsonObject();
+        window.addProperty("index", windows.size());
+        window.addProperty("elapsedMin", Math.round(elapsedMin * 10) / 10.0);
+        window.addProperty("completedPasses", passes);
+        window.add("errors", errorsJson());
+        // Harness health: contexts left open by passes and JVM heap of this process
+        window.addProperty("openContexts", browser.contexts().size());
+        window.addProperty("jvmHeapMb", (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+        window.add("operations", Latency.report(histograms));
+        windows.add(window);
+        errors.clear();
+        System.out.printf("window %d at %.1f min: %d passes, %s errors, %d open contexts%n",
+                windows.size() - 1, elapsedMin, passes, window.get("errors"), browser.contexts().size());
+    }
+
+    private JsonObject errorsJson() {
+        JsonObject o = new JsonObject();
+        errors.forEach(o::addProperty);
+        return o;
+    }
+
+    /**
+     * {"drifting": 1, "drift": {"IssuesPage.searchTask": {"p95Ms": [..], "changePct": .., "slopeMsPerHour": .., "drifting": ..}},
+     * "windows": [..]}
+     */
+    private JsonObject report() {
+        JsonObject drift = new JsonObject();
+        int drifting = 0;
+        for (String operation : new TreeSet<>(p95.keySet())) {
+            List<Double> series = new ArrayList<>(p95.get(operation));
+            series.removeIf(v -> v == null);
+            JsonObject o = new JsonObject();
+            JsonArray values = new JsonArray();
+            series.forEach(values::add);
+            o.add("p95Ms", values);
+            if (series.size() >= MIN_WINDOWS && series.get(0) > 0) {
+                double change = (series.get(series.size() - 1) - series.get(0)) * 100 / series.get(0);
+                double slopePerHour = slope(series) * 3_600_000.0 / windowMs;
+                boolean drifts = slopePerHour > 0 && change > driftPct;
+                drifting += drifts ? 1 : 0;
+                o.addProperty("changePct", Math.round(change * 10) / 10.0);
+                o.addProperty("slopeMsPerHour", Math.round(slopePerHour * 100) / 100.0);
+                o.addProperty("drifting", drifts);
+            }
+            drift.add(operation, o);
+        }
+        JsonObject report = new JsonObject();
+        report.addProperty("windowMin", windowMs / 60_000.0);
+        report.addProperty("driftPct", driftPct);
+        report.addProperty("drifting", drifting);
+        report.add("drift", drift);
+        JsonArray windowArray = new JsonArray();
+        windows.forEach(windowArray::add);
+        report.add("windows", windowArray);
+        return report;
+    }
+
+    // Least-squares slope of the values over their index, per window
+    private static double slope(List<Double> values) {
+        int n = values.size();
+        double meanX = (n - 1) / 2.0;
+        double meanY = values.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < n; i++) {
+            covariance += (i - meanX) * (values.get(i) - meanY);
+            variance += (i - meanX) * (i - meanX);
+        }
+        return variance > 0 ? covariance / variance : 0;
+    }
+
+    private static void write(JsonObject report) throws IOException {
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(report),
+                StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,139 @@
+package load;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import config.RunProfile;
+import pages.BoardPage;
+import pages.IssuesPage;
+import pages.TaskCardModal;
+import stub.TaskTrackerStub;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * One simulated user: repeats the tracker flows with think time in between until the deadline.
+ * A user is a state machine driven by its {@link LoadWorker}: every {@link #step(Browser)} runs one flow
+ * in the user's own context on the worker's browser and schedules the next one after the think time.
+ */
+class VirtualUser {
+
+    static final String[] QUERIES = {"Оптимизация", "Редизайн", "Реализация", "Рефакторинг"};
+    static final String[] STATUSES = {"Backlog", "InProgress", "Done"};
+    static final int BOARDS = 6;
+    static final String[] FLOWS = {"openIssues", "search", "openCard", "changeStatus", "viewBoard"};
+
+    private final LoadRunner runner;
+    private final TaskTrackerStub stub;
+    private final long deadline;
+    private long wakeAt;
+
+    private String session;
+    private BrowserContext context;
+    private IssuesPage issuesPage;
+    private BoardPage boardPage;
+    private int next;
+    private String query;
+    private TaskCardModal taskCard;
+
+    VirtualUser(LoadRunner runner, TaskTrackerStub stub, long startAt, long deadline) {
+        this.runner = runner;
+        this.stub = stub;
+        this.wakeAt = startAt;
+        this.deadline = deadline;
+    }
+
+    /**
+     * System.nanoTime() at which the next flow is due
+     */
+    long wakeAt() {
+        return wakeAt;
+    }
+
+    /**
+     * True once the next flow would start after the deadline
+     */
+    boolean finished() {
+        return wakeAt >= deadline;
+    }
+
+    /**
+     * Runs and records the next flow, opening the user's context on first use, then schedules the next flow
+     * after the think time (also after a failure, so errors do not spin)
+     */
+    void step(Browser browser) {
+        String flow = FLOWS[next];
+        long start = System.nanoTime();
+        try {
+            if (context == null) {
+                open(browser);
+            }
+            run(flow);
+            runner.recordSuccess(flow, System.nanoTime() - start);
+            next = (next + 1) % FLOWS.length;
+        } catch (RuntimeException e) {
+            runner.recordError(flow, e);
+            // A failed flow abandons the pass; the next one starts from the issues page again
+            next = 0;
+        }
+        // Think time of 0.5x..1.5x the configured value
+        long thinkTime = runner.thinkTimeMs();
+        wakeAt = System.nanoTime()
+                + (thinkTime / 2 + ThreadLocalRandom.current().nextLong(thinkTime + 1)) * 1_000_000;
+    }
+
+    /**
+     * Closes the user's context and releases its stub session
+     */
+    void close() {
+        try {
+            if (context != null) {
+                context.close();
+            }
+        } finally {
+            if (session != null) {
+                stub.release(session);
+            }
+        }
+    }
+
+    private void open(Browser browser) {
+        RunProfile profile = RunProfile.current();
+        session = stub.fork();
+        context = browser.newContext(profile.contextOptions());
+        try {
+            stub.route(context, profile.get("apiPattern"), session);
+            Page page = context.newPage();
+            page.setDefaultTimeout(profile.defaultTimeout());
+            issuesPage = new IssuesPage(page);
+            boardPage = new BoardPage(page);
+        } catch (RuntimeException e) {
+            // Half-opened user: start over with a fresh context on the next step
+            close();
+            context = null;
+            session = null;
+            throw e;
+        }
+    }
+
+    private void run(String flow) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        switch (flow) {
+            case "openIssues" -> {
+                query = QUERIES[random.nextInt(QUERIES.length)];
+                issuesPage.open();
+            }
+            case "search" -> issuesPage.searchTask(query);
+            case "openCard" -> taskCard = issuesPage.openTaskCard(query);
+            case "changeStatus" -> {
+                taskCard.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+                taskCard.clickUpdate();
+            }
+            case "viewBoard" -> {
+                boardPage.open(String.valueOf(1 + random.nextInt(BOARDS)));
+                boardPage.snapshot();
+            }
+            default -> throw new IllegalStateException("Unknown flow " + flow);
+        }
+    }
+}
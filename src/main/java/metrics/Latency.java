@@ -0,0 +1,92 @@
+package metrics;
+
+import com.google.gson.JsonObject;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Run-wide per-operation latency registry ("IssuesPage.searchTask" -> histogram)
+ */
+public final class Latency {
+
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private Latency() {
+    }
+
+    public static void record(String operation, long nanos) {
+        HISTOGRAMS.computeIfAbsent(operation, k -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    public static <T> T time(String operation, Supplier<T> body) {
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            record(operation, System.nanoTime() - start);
+        }
+    }
+
+    public static void time(String operation, Runnable body) {
+        long start = System.nanoTime();
+        try {
+            body.run();
+        } finally {
+            record(operation, System.nanoTime() - start);
+        }
+    }
+
+    public static LatencyHistogram histogram(String operation) {
+        return HISTOGRAMS.get(operation);
+    }
+
+    /**
+     * Current histograms, sorted by operation name
+     */
+    public static Map<String, LatencyHistogram> snapshot() {
+        return new TreeMap<>(HISTOGRAMS);
+    }
+
+    /**
+     * Returns the current histograms and starts new ones (used for time-windowed measurements)
+     */
+    public static Map<String, LatencyHistogram> drain() {
+        Map<String, LatencyHistogram> drained = new TreeMap<>();
+        for (String operation : HISTOGRAMS.keySet()) {
+            LatencyHistogram histogram = HISTOGRAMS.remove(operation);
+            if (histogram != null) {
+                drained.put(operation, histogram);
+            }
+        }
+        return drained;
+    }
+
+    public static JsonObject report() {
+        return report(snapshot());
+    }
+
+    /**
+     * {"IssuesPage.searchTask": {"count": 12, "meanMs": .., "p50Ms": .., "p95Ms": .., "p99Ms": .., "maxMs": ..}, ...}
+     */
+    public static JsonObject report(Map<String, LatencyHistogram> histograms) {
+        JsonObject report = new JsonObject();
+        histograms.forEach((operation, h) -> {
+            JsonObject o = new JsonObject();
+            o.addProperty("count", h.getCount());
+            o.addProperty("meanMs", round(h.getMeanMicros() / 1000.0));
+            o.addProperty("p50Ms", round(h.percentile(50) / 1000.0));
+            o.addProperty("p95Ms", round(h.percentile(95) / 1000.0));
+            o.addProperty("p99Ms", round(h.percentile(99) / 1000.0));
+            o.addProperty("maxMs", round(h.getMaxMicros() / 1000.0));
+            report.add(operation, o);
+        });
+        return report;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
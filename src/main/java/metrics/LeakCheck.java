@@ -0,0 +1,143 @@
+package metrics;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import config.RunProfile;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Memory growth of a page over repeated UI cycles. Every sample forces a garbage collection through CDP
+ * (HeapProfiler.collectGarbage) and reads Performance.getMetrics, so it is Chromium-only.
+ * The last sample is compared with the first one (taken after warm-up) against the profile's
+ * leakHeapGrowthPct and leakNodeGrowthPct limits.
+ */
+public final class LeakCheck {
+
+    // CDP metric name -> reported name
+    private static final Map<String, String> CDP_METRICS = Map.of(
+            "JSHeapUsedSize", "jsHeapUsedMb",
+            "Nodes", "domNodes",
+            "JSEventListeners", "eventListeners",
+            "Documents", "documents"
+    );
+    private static final Map<String, JsonObject> RECORDED = new ConcurrentSkipListMap<>();
+
+    private final String name;
+    private final List<Map<String, Double>> samples = new ArrayList<>();
+
+    public LeakCheck(String name) {
+        this.name = name;
+    }
+
+    public static boolean isSupported(Page page) {
+        Browser browser = page.context().browser();
+        return browser != null && "chromium".equals(browser.browserType().name());
+    }
+
+    /**
+     * Forces GC and records heap and DOM size after the given number of cycles
+     */
+    public Map<String, Double> sample(Page page, int cycle) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        values.put("cycle", (double) cycle);
+        CDPSession cdp = page.context().newCDPSession(page);
+        try {
+            // A second pass collects what the first one only finalized
+            cdp.send("HeapProfiler.collectGarbage");
+            cdp.send("HeapProfiler.collectGarbage");
+            cdp.send("Performance.enable");
+            JsonObject result = cdp.send("Performance.getMetrics");
+            for (JsonElement element : result.getAsJsonArray("metrics")) {
+                JsonObject metric = element.getAsJsonObject();
+                String cdpName = metric.get("name").getAsString();
+                if (CDP_METRICS.containsKey(cdpName)) {
+                    double value = metric.get("value").getAsDouble();
+                    values.put(CDP_METRICS.get(cdpName), "JSHeapUsedSize".equals(cdpName) ? value / (1024 * 1024) : value);
+                }
+            }
+        } finally {
+            cdp.detach();
+        }
+        samples.add(values);
+        return values;
+    }
+
+    /**
+     * Growth from the first to the last sample in percent, or NaN without two samples
+     */
+    public double growthPct(String metric) {
+        if (samples.size() < 2) {
+            return Double.NaN;
+        }
+        Double first = samples.get(0).get(metric);
+        Double last = samples.get(samples.size() - 1).get(metric);
+        if (first == null || last == null || first <= 0) {
+            return Double.NaN;
+        }
+        return (last - first) * 100 / first;
+    }
+
+    /**
+     * Limits exceeded by the growth of the JS heap and DOM node count, one line each
+     */
+    public List<String> violations(RunProfile profile) {
+        List<String> violations = new ArrayList<>();
+        check("jsHeapUsedMb", profile.getDouble("leakHeapGrowthPct", 10), violations);
+        check("domNodes", profile.getDouble("leakNodeGrowthPct", 10), violations);
+        return violations;
+    }
+
+    private void check(String metric, double limitPct, List<String> violations) {
+        double growth = growthPct(metric);
+        if (growth > limitPct) {
+            violations.add(String.format("%s %s grew %.1f%% (%.1f -> %.1f) over %d cycles, limit %.0f%%", name, metric,
+                    growth, samples.get(0).get(metric), samples.get(samples.size() - 1).get(metric),
+                    samples.get(samples.size() - 1).get("cycle").intValue(), limitPct));
+        }
+    }
+
+    /**
+     * {"samples": [{"cycle": 0, "jsHeapUsedMb": 4.2, "domNodes": 812, ...}, ...], "growthPct": {..}}
+     */
+    public JsonObject toJson() {
+        JsonObject o = new JsonObject();
+        JsonArray array = new JsonArray();
+        for (Map<String, Double> sample : samples) {
+            JsonObject s = new JsonObject();
+            sample.forEach((metric, value) -> s.addProperty(metric, Math.round(value * 100) / 100.0));
+            array.add(s);
+        }
+        o.add("samples", array);
+        JsonObject growth = new JsonObject();
+        for (String metric : CDP_METRICS.values()) {
+            double pct = growthPct(metric);
+            if (!Double.isNaN(pct)) {
+                growth.addProperty(metric, Math.round(pct * 10) / 10.0);
+            }
+        }
+        o.add("growthPct", growth);
+        return o;
+    }
+
+    /**
+     * Adds the samples to the run report under the check's name
+     */
+    public void record() {
+        RECORDED.put(name, toJson());
+    }
+
+    public static JsonObject report() {
+        JsonObject report = new JsonObject();
+        RECORDED.forEach(report::add);
+        return report;
+    }
+}
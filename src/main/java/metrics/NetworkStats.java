@@ -0,0 +1,294 @@
+package metrics;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.options.Sizes;
+import config.RunProfile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Network accounting for one test's context: requests, transferred bytes by resource type,
+ * duplicate fetches (the same GET URL over the network more than once) and cache hits, in total and
+ * per page-object operation the request was started in ("IssuesPage.open", see {@link #during}).
+ * Responses fulfilled by a route (stub, HAR replay) are counted as "fulfilled", not as cache hits, and requests
+ * aborted on purpose (see {@link #blocked}) as "blocked", not as failed. Any route turns the browser HTTP cache
+ * off, so cache hits are only meaningful for contexts without routes: against a real backend, no HAR replay and
+ * no request blocking.
+ * On unless networkStats=false; budgets are profile keys "budget.&lt;Page.operation&gt;.&lt;metric&gt;"
+ * and "budget.test.&lt;metric&gt;" for the test total (metrics: requests, transferKb, duplicates, failed).
+ */
+public final class NetworkStats {
+
+    private static final String OUTSIDE_OPERATIONS = "(outside page objects)";
+    private static final ThreadLocal<String> OPERATION = new ThreadLocal<>();
+    private static final Map<String, JsonObject> RECORDED = new ConcurrentSkipListMap<>();
+    private static final Map<String, Totals> RUN_OPERATIONS = new TreeMap<>();
+    // Requests a route handler answered itself, marked before fulfilling or aborting
+    private static final Map<Request, Outcome> HANDLED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final BrowserContext context;
+    private final boolean routed;
+    private final Totals total = new Totals();
+    private final Map<String, Totals> operations = new TreeMap<>();
+    private final Map<Request, String> started = new IdentityHashMap<>();
+    private final Set<String> fetched = new HashSet<>();
+    private final Consumer<Request> onRequest = this::started;
+    private final Consumer<Request> onFinished = this::finished;
+    private final Consumer<Request> onFailed = this::failed;
+
+    private NetworkStats(BrowserContext context, boolean routed) {
+        this.context = context;
+        this.routed = routed;
+    }
+
+    public static boolean isEnabled() {
+        return RunProfile.current().getBoolean("networkStats", true);
+    }
+
+    /**
+     * Runs the body as the named page-object operation; requests started meanwhile are counted under it.
+     * Nested operations count towards the outermost one.
+     */
+    public static <T> T during(String operation, Supplier<T> body) {
+        if (OPERATION.get() != null) {
+            return body.get();
+        }
+        OPERATION.set(operation);
+        try {
+            return body.get();
+        } finally {
+            OPERATION.remove();
+        }
+    }
+
+    /**
+     * Starts counting the context's requests until {@link #detach()}. Routed: the context has routes, so its
+     * HTTP cache is off and a response without headers on the wire was fulfilled by a route, e.g. from a HAR
+     */
+    public static NetworkStats attach(BrowserContext context, boolean routed) {
+        NetworkStats stats = new NetworkStats(context, routed);
+        context.onRequest(stats.onRequest);
+        context.onRequestFinished(stats.onFinished);
+        context.onRequestFailed(stats.onFailed);
+        return stats;
+    }
+
+    public void detach() {
+        context.offRequest(onRequest);
+        context.offRequestFinished(onFinished);
+        context.offRequestFailed(onFailed);
+    }
+
+    /**
+     * Marks a request a route handler is about to fulfill with its own response
+     */
+    public static void fulfilled(Request request) {
+        HANDLED.put(request, Outcome.FULFILLED);
+    }
+
+    /**
+     * Marks a request a route handler is about to abort on purpose, so the failure is not counted as one
+     */
+    public static void blocked(Request request) {
+        HANDLED.put(request, Outcome.BLOCKED);
+    }
+
+    private void started(Request request) {
+        String operation = OPERATION.get();
+        started.put(request, operation != null ? operation : OUTSIDE_OPERATIONS);
+    }
+
+    private void finished(Request request) {
+        Outcome handled = HANDLED.remove(request);
+        if (request.url().startsWith("data:") || request.url().startsWith("blob:")) {
+            started.remove(request);
+            return;
+        }
+        long bytes;
+        Outcome outcome;
+        try {
+            Response response = request.response();
+            Sizes sizes = request.sizes();
+            bytes = Math.max(0, sizes.responseHeadersSize) + Math.max(0, sizes.responseBodySize);
+            boolean noWireHeaders = sizes.responseHeadersSize <= 0;
+            if (handled == Outcome.FULFILLED || response != null && routed && noWireHeaders && !response.fromServiceWorker()) {
+                outcome = Outcome.FULFILLED;
+            } else if (response != null && (response.status() == 304 || response.fromServiceWorker() || noWireHeaders)) {
+                // Revalidated (304), served by a service worker, or no response headers went over the wire
+                outcome = Outcome.CACHE_HIT;
+            } else {
+                outcome = Outcome.NETWORK;
+            }
+        } catch (PlaywrightException e) {
+            // Context closed while the request was in flight
+            bytes = 0;
+            outcome = Outcome.NETWORK;
+        }
+        boolean duplicate = outcome != Outcome.CACHE_HIT && "GET".equals(request.method()) && !fetched.add(request.url());
+        count(request, bytes, outcome, duplicate);
+    }
+
+    private void failed(Request request) {
+        count(request, 0, HANDLED.remove(request) == Outcome.BLOCKED ? Outcome.BLOCKED : Outcome.FAILED, false);
+    }
+
+    private void count(Request request, long bytes, Outcome outcome, boolean duplicate) {
+        String operation = started.remove(request);
+        Totals op = operations.computeIfAbsent(operation != null ? operation : OUTSIDE_OPERATIONS, k -> new Totals());
+        for (Totals totals : List.of(total, op)) {
+            totals.add(request.resourceType(), bytes, outcome, duplicate);
+        }
+    }
+
+    /**
+     * Violations of the "budget.test.&lt;metric&gt;" and "budget.&lt;Page.operation&gt;.&lt;metric&gt;" limits, one line each
+     */
+    public List<String> budgetViolations(RunProfile profile) {
+        List<String> violations = new ArrayList<>();
+        check(profile, "test", total, violations);
+        operations.forEach((operation, totals) -> check(profile, operation, totals, violations));
+        return violations;
+    }
+
+    private static void check(RunProfile profile, String owner, Totals totals, List<String> violations) {
+        totals.budgetMetrics().forEach((metric, value) -> {
+            double budget = profile.getDouble("budget." + owner + "." + metric, Double.NaN);
+            if (value > budget) {
+                violations.add(String.format("%s %s = %.1f > %.1f (network)", owner, metric, value, budget));
+            }
+        });
+    }
+
+    /**
+     * {"total": {..}, "operations": {"IssuesPage.open": {"requests": 12, "transferKb": 340.5, ...}, ..}}
+     */
+    public JsonObject toJson() {
+        JsonObject o = new JsonObject();
+        o.add("total", total.toJson());
+        JsonObject ops = new JsonObject();
+        operations.forEach((operation, totals) -> ops.add(operation, totals.toJson()));
+        o.add("operations", ops);
+        return o;
+    }
+
+    /**
+     * Adds the stats to the run report under the given owner (e.g. a test id)
+     */
+    public void record(String owner) {
+        if (total.requests == 0 && total.blocked == 0) {
+            return;
+        }
+        RECORDED.put(owner, toJson());
+        synchronized (RUN_OPERATIONS) {
+            operations.forEach((operation, totals) ->
+                    RUN_OPERATIONS.computeIfAbsent(operation, k -> new Totals()).addAll(totals));
+        }
+    }
+
+    /**
+     * {"operations": {"IssuesPage.open": {..run totals..}, ..}, "tests": {"SearchTaskTests/testSearchByName": {..}, ..}}
+     */
+    public static JsonObject report() {
+        JsonObject report = new JsonObject();
+        JsonObject ops = new JsonObject();
+        synchronized (RUN_OPERATIONS) {
+            RUN_OPERATIONS.forEach((operation, totals) -> ops.add(operation, totals.toJson()));
+        }
+        report.add("operations", ops);
+        JsonObject tests = new JsonObject();
+        RECORDED.forEach(tests::add);
+        report.add("tests", tests);
+        return report;
+    }
+
+    private enum Outcome { NETWORK, CACHE_HIT, FULFILLED, BLOCKED, FAILED }
+
+    private static final class Totals {
+        long requests;
+        long bytes;
+        long cacheHits;
+        long fulfilled;
+        long blocked;
+        long duplicates;
+        long failed;
+        // resource type -> {requests, bytes}
+        final Map<String, long[]> byType = new TreeMap<>();
+
+        void add(String type, long bytes, Outcome outcome, boolean duplicate) {
+            // Blocked requests never left the browser: counted apart from requests
+            if (outcome == Outcome.BLOCKED) {
+                blocked++;
+                return;
+            }
+            requests++;
+            this.bytes += bytes;
+            cacheHits += outcome == Outcome.CACHE_HIT ? 1 : 0;
+            fulfilled += outcome == Outcome.FULFILLED ? 1 : 0;
+            duplicates += duplicate ? 1 : 0;
+            failed += outcome == Outcome.FAILED ? 1 : 0;
+            long[] typeTotals = byType.computeIfAbsent(type, k -> new long[2]);
+            typeTotals[0]++;
+            typeTotals[1] += bytes;
+        }
+
+        void addAll(Totals other) {
+            requests += other.requests;
+            bytes += other.bytes;
+            cacheHits += other.cacheHits;
+            fulfilled += other.fulfilled;
+            blocked += other.blocked;
+            duplicates += other.duplicates;
+            failed += other.failed;
+            other.byType.forEach((type, t) -> {
+                long[] typeTotals = byType.computeIfAbsent(type, k -> new long[2]);
+                typeTotals[0] += t[0];
+                typeTotals[1] += t[1];
+            });
+        }
+
+        Map<String, Double> budgetMetrics() {
+            Map<String, Double> values = new LinkedHashMap<>();
+            values.put("requests", (double) requests);
+            values.put("transferKb", bytes / 1024.0);
+            values.put("duplicates", (double) duplicates);
+            values.put("failed", (double) failed);
+            return values;
+        }
+
+        JsonObject toJson() {
+            JsonObject o = new JsonObject();
+            budgetMetrics().forEach((name, value) -> o.addProperty(name, Math.round(value * 100) / 100.0));
+            o.addProperty("cacheHits", cacheHits);
+            // Of the requests the HTTP cache could have served, i.e. not answered by a route
+            long cacheable = requests - fulfilled;
+            o.addProperty("cacheHitRatio", cacheable > 0 ? Math.round(cacheHits * 1000.0 / cacheable) / 1000.0 : 0);
+            o.addProperty("fulfilled", fulfilled);
+            o.addProperty("blocked", blocked);
+            JsonObject types = new JsonObject();
+            byType.forEach((type, t) -> {
+                JsonObject typeJson = new JsonObject();
+                typeJson.addProperty("requests", t[0]);
+                typeJson.addProperty("transferKb", Math.round(t[1] * 100 / 1024.0) / 100.0);
+                types.add(type, typeJson);
+            });
+            o.add("byType", types);
+            return o;
+        }
+    }
+}
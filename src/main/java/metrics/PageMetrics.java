@@ -0,0 +1,52 @@
+package metrics;
+
+import com.google.gson.JsonObject;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Web performance metrics captured for one page open ("lcpMs" -> 812.4, "layoutCount" -> 37, ...)
+ */
+public class PageMetrics {
+
+    private final String pageName;
+    private final String url;
+    private final Map<String, Double> values;
+
+    public PageMetrics(String pageName, String url, Map<String, Double> values) {
+        this.pageName = pageName;
+        this.url = url;
+        this.values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Map<String, Double> getValues() {
+        return values;
+    }
+
+    /**
+     * Metric value, or null if the browser did not report it
+     */
+    public Double get(String metric) {
+        return values.get(metric);
+    }
+
+    public JsonObject toJson() {
+        JsonObject o = new JsonObject();
+        o.addProperty("page", pageName);
+        o.addProperty("url", url);
+        JsonObject metrics = new JsonObject();
+        values.forEach((name, value) -> metrics.addProperty(name, Math.round(value * 100) / 100.0));
+        o.add("metrics", metrics);
+        return o;
+    }
+}
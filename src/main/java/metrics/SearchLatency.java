@@ -0,0 +1,121 @@
+package metrics;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keystroke-level search responsiveness measured by IssuesPage: time from a keystroke until the result list
+ * is stable again, per query length, and how bursts of typing are debounced (result updates and requests
+ * per keystroke, delay between the last keystroke and the first result change).
+ */
+public final class SearchLatency {
+
+    private static final LatencyHistogram ALL = new LatencyHistogram();
+    private static final Map<Integer, LatencyHistogram> BY_LENGTH = new ConcurrentSkipListMap<>();
+    private static final LongAdder UNCHANGED = new LongAdder();
+    private static final List<JsonObject> BURSTS = new ArrayList<>();
+
+    private SearchLatency() {
+    }
+
+    /**
+     * Time-to-results after the keystroke that made the query this long; negative if the results did not change
+     */
+    public static void recordKeystroke(int queryLength, double stableMs) {
+        if (stableMs < 0) {
+            UNCHANGED.increment();
+            return;
+        }
+        long nanos = (long) (stableMs * 1_000_000);
+        ALL.recordNanos(nanos);
+        BY_LENGTH.computeIfAbsent(queryLength, k -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    /**
+     * One query typed at the given key delay without waiting in between
+     */
+    public static void recordBurst(String query, double keyDelayMs, int keystrokes, int updates, int requests,
+                                   double firstChangeMs, double stableMs) {
+        JsonObject burst = new JsonObject();
+        burst.addProperty("query", query);
+        burst.addProperty("keyDelayMs", keyDelayMs);
+        burst.addProperty("keystrokes", keystrokes);
+        burst.addProperty("resultUpdates", updates);
+        burst.addProperty("requests", requests);
+        burst.addProperty("firstChangeAfterLastKeyMs", round(firstChangeMs));
+        burst.addProperty("stableAfterLastKeyMs", round(stableMs));
+        synchronized (BURSTS) {
+            BURSTS.add(burst);
+        }
+    }
+
+    /**
+     * p99 of all keystroke time-to-results in ms, 0 before any measurement
+     */
+    public static double keystrokeP99Ms() {
+        return ALL.percentile(99) / 1000.0;
+    }
+
+    /**
+     * {"keystrokes": {"count", "unchanged", "p50Ms", "p99Ms"}, "byLength": {"1": {..}, ..},
+     * "debounce": {"updatesPerKeystroke", "requestsPerKeystroke", "estimatedDelayMs"}, "bursts": [..]}
+     */
+    public static JsonObject report() {
+        JsonObject report = new JsonObject();
+        JsonObject keystrokes = percentiles(ALL);
+        keystrokes.addProperty("unchanged", UNCHANGED.sum());
+        report.add("keystrokes", keystrokes);
+        JsonObject byLength = new JsonObject();
+        BY_LENGTH.forEach((length, h) -> byLength.add(String.valueOf(length), percentiles(h)));
+        report.add("byLength", byLength);
+
+        JsonArray bursts = new JsonArray();
+        long keys = 0;
+        long updates = 0;
+        long requests = 0;
+        List<Double> delays = new ArrayList<>();
+        synchronized (BURSTS) {
+            for (JsonObject burst : BURSTS) {
+                bursts.add(burst);
+                keys += burst.get("keystrokes").getAsLong();
+                updates += burst.get("resultUpdates").getAsLong();
+                requests += burst.get("requests").getAsLong();
+                double delay = burst.get("firstChangeAfterLastKeyMs").getAsDouble();
+                // Only a burst that was coalesced tells the debounce delay
+                if (delay >= 0 && burst.get("resultUpdates").getAsLong() < burst.get("keystrokes").getAsLong()) {
+                    delays.add(delay);
+                }
+            }
+        }
+        if (keys > 0) {
+            JsonObject debounce = new JsonObject();
+            debounce.addProperty("updatesPerKeystroke", round((double) updates / keys));
+            debounce.addProperty("requestsPerKeystroke", round((double) requests / keys));
+            if (!delays.isEmpty()) {
+                delays.sort(null);
+                debounce.addProperty("estimatedDelayMs", round(delays.get(delays.size() / 2)));
+            }
+            report.add("debounce", debounce);
+        }
+        report.add("bursts", bursts);
+        return report;
+    }
+
+    private static JsonObject percentiles(LatencyHistogram h) {
+        JsonObject o = new JsonObject();
+        o.addProperty("count", h.getCount());
+        o.addProperty("p50Ms", round(h.percentile(50) / 1000.0));
+        o.addProperty("p99Ms", round(h.percentile(99) / 1000.0));
+        return o;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
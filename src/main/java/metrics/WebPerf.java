@@ -0,0 +1,238 @@
+package metrics;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import config.RunProfile;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Browser-side performance capture: Navigation Timing, paint timings, LCP and long tasks
+ * from the page, plus CDP Performance.getMetrics (JS heap, layouts, script time) on Chromium.
+ * Chromium only counts layouts and script time while the Performance domain is enabled, so it is enabled
+ * for every page when the page is created; the counters are reported as the change since the previous
+ * capture of the same page (or since its creation).
+ * Enabled with webPerf=true; page budgets are profile keys "budget.&lt;Page&gt;.&lt;metric&gt;".
+ */
+public final class WebPerf {
+
+    // Installed before any page script runs; buffered observers also pick up entries from before the page subscribed
+    private static final String INIT_SCRIPT = "(() => {" +
+            "  const p = window.__webPerf = { lcp: null, longTasks: 0, longTaskMs: 0 };" +
+            "  const observe = (type, onEntry) => {" +
+            "    try { new PerformanceObserver(list => list.getEntries().forEach(onEntry)).observe({ type, buffered: true }); }" +
+            "    catch (e) { /* entry type not supported by this browser */ }" +
+            "  };" +
+            "  observe('largest-contentful-paint', e => { p.lcp = e.renderTime || e.loadTime || e.startTime; });" +
+            "  observe('longtask', e => { p.longTasks++; p.longTaskMs += e.duration; });" +
+            "})();";
+
+    private static final String COLLECT = "() => {" +
+            "  const r = {};" +
+            "  const nav = performance.getEntriesByType('navigation')[0];" +
+            "  if (nav) {" +
+            "    r.ttfbMs = nav.responseStart - nav.requestStart;" +
+            "    r.domContentLoadedMs = nav.domContentLoadedEventEnd;" +
+            "    if (nav.loadEventEnd > 0) r.loadMs = nav.loadEventEnd;" +
+            "    r.transferKb = nav.transferSize / 1024;" +
+            "  }" +
+            "  for (const e of performance.getEntriesByType('paint')) {" +
+            "    r[e.name === 'first-paint' ? 'firstPaintMs' : 'fcpMs'] = e.startTime;" +
+            "  }" +
+            "  const p = window.__webPerf;" +
+            "  if (p) {" +
+            "    if (p.lcp !== null) r.lcpMs = p.lcp;" +
+            "    r.longTasks = p.longTasks;" +
+            "    r.longTaskMs = p.longTaskMs;" +
+            "  }" +
+            "  return r;" +
+            "}";
+
+    // CDP metric name -> reported name
+    private static final Map<String, String> CDP_METRICS = Map.of(
+            "JSHeapUsedSize", "jsHeapUsedMb",
+            "LayoutCount", "layoutCount",
+            "RecalcStyleCount", "recalcStyleCount",
+            "ScriptDuration", "scriptDurationMs",
+            "TaskDuration", "taskDurationMs"
+    );
+
+    private static final ThreadLocal<List<PageMetrics>> CAPTURED = ThreadLocal.withInitial(ArrayList::new);
+    private static final Map<String, List<PageMetrics>> RECORDED = new ConcurrentSkipListMap<>();
+    // Pages with the CDP Performance domain enabled -> session and the counters at their last capture
+    private static final Map<Page, Counters> COUNTERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private WebPerf() {
+    }
+
+    public static boolean isEnabled() {
+        return RunProfile.current().getBoolean("webPerf", false);
+    }
+
+    /**
+     * Registers the LCP and long-task observers for every page of the context and, on Chromium, enables
+     * the CDP Performance domain for every new page; call before creating pages
+     */
+    public static void install(BrowserContext context) {
+        context.addInitScript(INIT_SCRIPT);
+        Browser browser = context.browser();
+        if (browser != null && "chromium".equals(browser.browserType().name())) {
+            context.onPage(WebPerf::enableCounters);
+        }
+    }
+
+    private static void enableCounters(Page page) {
+        CDPSession cdp = page.context().newCDPSession(page);
+        cdp.send("Performance.enable");
+        COUNTERS.put(page, new Counters(cdp));
+        page.onClose(COUNTERS::remove);
+    }
+
+    /**
+     * Collects the metrics of the page's current document and keeps them for {@link #drain()}
+     */
+    @SuppressWarnings("unchecked")
+    public static PageMetrics capture(Page page, String pageName) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        ((Map<String, Object>) page.evaluate(COLLECT)).forEach((name, value) -> {
+            if (value instanceof Number) {
+                values.put(name, ((Number) value).doubleValue());
+            }
+        });
+        Browser browser = page.context().browser();
+        if (browser != null && "chromium".equals(browser.browserType().name())) {
+            values.putAll(cdpMetrics(page));
+        }
+        PageMetrics metrics = new PageMetrics(pageName, page.url(), values);
+        CAPTURED.get().add(metrics);
+        return metrics;
+    }
+
+    private static Map<String, Double> cdpMetrics(Page page) {
+        Counters counters = COUNTERS.get(page);
+        if (counters == null) {
+            // Page created without install(): only the heap size is meaningful
+            CDPSession cdp = page.context().newCDPSession(page);
+            try {
+                cdp.send("Performance.enable");
+                Map<String, Double> values = new LinkedHashMap<>();
+                Double heap = read(cdp).get("JSHeapUsedSize");
+                if (heap != null) {
+                    values.put(CDP_METRICS.get("JSHeapUsedSize"), scale("JSHeapUsedSize", heap));
+                }
+                return values;
+            } finally {
+                cdp.detach();
+            }
+        }
+        Map<String, Double> values = new LinkedHashMap<>();
+        synchronized (counters) {
+            Map<String, Double> current = read(counters.cdp);
+            current.forEach((cdpName, value) -> {
+                // The heap is a gauge; everything else counts up while the domain is enabled
+                double reported = "JSHeapUsedSize".equals(cdpName)
+                        ? value
+                        : value - counters.last.getOrDefault(cdpName, 0.0);
+                values.put(CDP_METRICS.get(cdpName), scale(cdpName, reported));
+            });
+            counters.last = current;
+        }
+        return values;
+    }
+
+    private static Map<String, Double> read(CDPSession cdp) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        JsonObject result = cdp.send("Performance.getMetrics");
+        for (JsonElement element : result.getAsJsonArray("metrics")) {
+            JsonObject metric = element.getAsJsonObject();
+            String cdpName = metric.get("name").getAsString();
+            if (CDP_METRICS.containsKey(cdpName)) {
+                values.put(cdpName, metric.get("value").getAsDouble());
+            }
+        }
+        return values;
+    }
+
+    // CDP reports bytes and seconds
+    private static double scale(String cdpName, double value) {
+        switch (cdpName) {
+            case "JSHeapUsedSize":
+                return value / (1024 * 1024);
+            case "ScriptDuration":
+            case "TaskDuration":
+                return value * 1000;
+            default:
+                return value;
+        }
+    }
+
+    /**
+     * Returns and forgets the metrics captured on the calling thread
+     */
+    public static List<PageMetrics> drain() {
+        List<PageMetrics> captured = new ArrayList<>(CAPTURED.get());
+        CAPTURED.get().clear();
+        return captured;
+    }
+
+    /**
+     * Adds the metrics to the run report under the given owner (e.g. a test id)
+     */
+    public static void record(String owner, List<PageMetrics> metrics) {
+        if (!metrics.isEmpty()) {
+            // Repeated and parameterized invocations of a test share its id
+            RECORDED.computeIfAbsent(owner, k -> new CopyOnWriteArrayList<>()).addAll(metrics);
+        }
+    }
+
+    /**
+     * Violations of the "budget.&lt;Page&gt;.&lt;metric&gt;" limits in the profile, one line each
+     */
+    public static List<String> budgetViolations(RunProfile profile, List<PageMetrics> metrics) {
+        List<String> violations = new ArrayList<>();
+        for (PageMetrics page : metrics) {
+            page.getValues().forEach((metric, value) -> {
+                double budget = profile.getDouble("budget." + page.getPageName() + "." + metric, Double.NaN);
+                if (value > budget) {
+                    violations.add(String.format("%s %s = %.1f > %.1f (%s)",
+                            page.getPageName(), metric, value, budget, page.getUrl()));
+                }
+            });
+        }
+        return violations;
+    }
+
+    private static final class Counters {
+        final CDPSession cdp;
+        Map<String, Double> last = Map.of();
+
+        Counters(CDPSession cdp) {
+            this.cdp = cdp;
+        }
+    }
+
+    /**
+     * {"SearchTaskTests/testSearchByName": [{"page": .., "url": .., "metrics": {..}}, ...], ...}
+     */
+    public static JsonObject report() {
+        JsonObject report = new JsonObject();
+        RECORDED.forEach((owner, metrics) -> {
+            JsonArray array = new JsonArray();
+            metrics.forEach(m -> array.add(m.toJson()));
+            report.add(owner, array);
+        });
+        return report;
+    }
+}
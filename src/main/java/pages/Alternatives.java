@@ -0,0 +1,18 @@
+package pages;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a selector-list constant whose alternatives all find the same element (markup of different app versions),
+ * so that {@link SelectorCache} may cache the first alternative that matches. Lists whose alternatives mean
+ * different things ("Задачи не найдены" or "Нет задач") stay unmarked and are always used as one locator.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Alternatives {
+}
@@ -1,35 +1,223 @@
 package pages;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.TimeoutError;
+import com.microsoft.playwright.options.LoadState;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import config.RunProfile;
+import impact.ImpactRecorder;
+import metrics.Latency;
+import metrics.NetworkStats;
+import metrics.WebPerf;
+
+import java.net.URI;
+import java.util.function.Supplier;
 
 /**
  * Base page class with common functionality for all pages
  */
 public abstract class BasePage {
     protected Page page;
-    protected static final String BASE_URL = "https://avito-tech-internship-psi.vercel.app";
+
+    // Records the time of the last DOM mutation in window.__settle; returns the current change count
+    private static final String INSTALL_SETTLE_OBSERVER = "() => {" +
+            "  if (!window.__settle) {" +
+            "    const s = window.__settle = { last: performance.now(), changes: 0 };" +
+            "    new MutationObserver(() => { s.last = performance.now(); s.changes++; })" +
+            "      .observe(document, { subtree: true, childList: true, attributes: true, characterData: true });" +
+            "  }" +
+            "  window.__settle.last = performance.now();" +
+            "  return window.__settle.changes;" +
+            "}";
+    private static final String DOM_QUIET = "quiet => !window.__settle || performance.now() - window.__settle.last >= quiet";
+    private static final String CONTENT_SIGNATURE = "sel => Array.from(document.querySelectorAll(sel))" +
+            ".map(e => e.textContent).join('\\u0001')";
+    private static final String CONTENT_CHANGED = "([sel, before]) => Array.from(document.querySelectorAll(sel))" +
+            ".map(e => e.textContent).join('\\u0001') !== before";
+    // History-API route change, picked up by the SPA router like back/forward navigation
+    private static final String ROUTE_CHANGE = "path => {" +
+            "  history.pushState({}, '', path);" +
+            "  window.dispatchEvent(new PopStateEvent('popstate', { state: {} }));" +
+            "}";
+    private static final String OPEN_DIALOG = "[role='dialog']:visible, .modal:visible";
 
     public BasePage(Page page) {
         this.page = page;
     }
 
+    /**
+     * Target application URL from the current run profile
+     */
+    protected static String baseUrl() {
+        return RunProfile.current().baseUrl();
+    }
+
+    /**
+     * Resolves a multi-alternative selector to the alternative that matches on this page type
+     */
+    protected String resolve(String selectorList) {
+        ImpactRecorder.selector(getClass(), selectorList);
+        return SelectorCache.resolve(page, getClass(), selectorList);
+    }
+
+    protected Locator locator(String selectorList) {
+        return page.locator(resolve(selectorList));
+    }
+
+    /**
+     * Runs the body and records its latency as "PageClass.method" in {@link Latency}
+     * (and the method as used by the current test, see {@link ImpactRecorder}).
+     * Requests started meanwhile are counted under the same name by {@link NetworkStats}.
+     */
+    protected <T> T timed(String method, Supplier<T> body) {
+        ImpactRecorder.method(getClass(), method);
+        String operation = getClass().getSimpleName() + "." + method;
+        return NetworkStats.during(operation, () -> Latency.time(operation, body));
+    }
+
+    protected void timed(String method, Runnable body) {
+        timed(method, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Opens an app path and waits for the UI to settle. On a warm page (see {@link SoftNavigation}) this is a
+     * client-side route change; if the app does not end up on the path in a fresh state, the page is
+     * reloaded with a full navigation. Returns true if a full navigation was made.
+     */
+    protected boolean openPath(String path) {
+        if (SoftNavigation.isEnabled(page) && page.url().startsWith(baseUrl())) {
+            page.evaluate(ROUTE_CHANGE, path);
+            waitForSettled();
+            if (path.equals(URI.create(page.url()).getPath()) && isFreshState()) {
+                return false;
+            }
+        }
+        page.navigate(baseUrl() + path);
+        waitForPageLoad();
+        waitForSettled();
+        return true;
+    }
+
+    /**
+     * Whether the page shows no state left over from a previous test; checked after a client-side route change
+     */
+    protected boolean isFreshState() {
+        return locator(OPEN_DIALOG).count() == 0;
+    }
+
+    /**
+     * Captures Web performance metrics of the opened page when webPerf is enabled (see {@link WebPerf})
+     */
+    protected void capturePerformance() {
+        if (WebPerf.isEnabled()) {
+            WebPerf.capture(page, getClass().getSimpleName());
+        }
+    }
+
     public void waitForPageLoad() {
-        page.waitForLoadState();
+        timed("waitForPageLoad", () -> page.waitForLoadState());
+    }
+
+    /**
+     * Runs the action and returns as soon as the UI has settled (see {@link SettleOptions}).
+     * Returns false if the timeout was reached first; the wait itself never fails the test.
+     */
+    public boolean performAndSettle(Runnable action, SettleOptions options) {
+        long deadline = System.nanoTime() + (long) (options.getTimeout() * 1_000_000);
+        installSettleObserver();
+        String before = options.getWatchSelector() != null
+                ? (String) page.evaluate(CONTENT_SIGNATURE, options.getWatchSelector())
+                : null;
+
+        if (options.getResponseUrl() != null) {
+            try {
+                page.waitForResponse(response -> response.url().contains(options.getResponseUrl()),
+                        new Page.WaitForResponseOptions().setTimeout(remaining(deadline)), action);
+            } catch (TimeoutError e) {
+                return false;
+            }
+        } else {
+            action.run();
+        }
+
+        try {
+            if (before != null) {
+                page.waitForFunction(CONTENT_CHANGED, new Object[]{options.getWatchSelector(), before},
+                        new Page.WaitForFunctionOptions().setTimeout(remaining(deadline)));
+            }
+            return waitForDomQuiet(options.getQuietPeriod(), deadline);
+        } catch (TimeoutError e) {
+            return false;
+        }
+    }
+
+    private boolean waitForDomQuiet(double quietPeriod, long deadline) {
+        try {
+            installSettleObserver();
+            page.waitForFunction(DOM_QUIET, quietPeriod,
+                    new Page.WaitForFunctionOptions().setTimeout(remaining(deadline)));
+            return true;
+        } catch (TimeoutError e) {
+            return false;
+        } catch (PlaywrightException e) {
+            // The action triggered a navigation: wait for the new document and observe it instead
+            try {
+                page.waitForLoadState(LoadState.LOAD, new Page.WaitForLoadStateOptions().setTimeout(remaining(deadline)));
+                installSettleObserver();
+                page.waitForFunction(DOM_QUIET, quietPeriod,
+                        new Page.WaitForFunctionOptions().setTimeout(remaining(deadline)));
+                return true;
+            } catch (PlaywrightException again) {
+                // Timed out, or yet another navigation
+                return false;
+            }
+        }
+    }
+
+    public boolean performAndSettle(Runnable action) {
+        return performAndSettle(action, new SettleOptions());
+    }
+
+    /**
+     * Waits until the DOM has been quiet for the default quiet period
+     */
+    public boolean waitForSettled() {
+        return timed("waitForSettled", () -> performAndSettle(() -> { }));
+    }
+
+    private void installSettleObserver() {
+        try {
+            page.evaluate(INSTALL_SETTLE_OBSERVER);
+        } catch (PlaywrightException e) {
+            // Execution context was destroyed by a navigation; the next call reinstalls it
+        }
+    }
+
+    private static double remaining(long deadline) {
+        return Math.max(1, (deadline - System.nanoTime()) / 1_000_000.0);
     }
 
     public void waitForElement(String selector) {
-        page.waitForSelector(selector, new Page.WaitForSelectorOptions()
-                .setState(WaitForSelectorState.VISIBLE));
+        timed("waitForElement", () -> {
+            page.waitForSelector(selector, new Page.WaitForSelectorOptions()
+                    .setState(WaitForSelectorState.VISIBLE));
+        });
     }
 
     public void waitForElementHidden(String selector) {
-        page.waitForSelector(selector, new Page.WaitForSelectorOptions()
-                .setState(WaitForSelectorState.HIDDEN));
+        timed("waitForElementHidden", () -> {
+            page.waitForSelector(selector, new Page.WaitForSelectorOptions()
+                    .setState(WaitForSelectorState.HIDDEN));
+        });
     }
 
     public boolean isElementVisible(String selector) {
-        return page.locator(selector).isVisible();
+        return timed("isElementVisible", () -> locator(selector).isVisible());
     }
 
     public String getCurrentUrl() {
@@ -37,14 +225,14 @@ public abstract class BasePage {
     }
 
     public void click(String selector) {
-        page.locator(selector).click();
+        timed("click", () -> locator(selector).click());
     }
 
     public void fill(String selector, String text) {
-        page.locator(selector).fill(text);
+        timed("fill", () -> locator(selector).fill(text));
     }
 
     public String getText(String selector) {
-        return page.locator(selector).textContent();
+        return timed("getText", () -> locator(selector).textContent());
     }
 }
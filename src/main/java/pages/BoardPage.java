@@ -3,6 +3,8 @@ package pages;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import com.microsoft.playwright.options.WaitUntilState;
+import config.RunProfile;
 
 import java.util.List;
 
@@ -12,101 +14,182 @@ import java.util.List;
 public class BoardPage extends BasePage {
 
     // Locators
+    @Alternatives
     private static final String BOARD_CONTAINER = ".board, .kanban-board, [data-testid='board']";
+    @Alternatives
     private static final String COLUMN = ".column, .board-column, [data-testid='board-column']";
+    @Alternatives
     private static final String TODO_COLUMN = ".column:has-text('To Do'), [data-testid='column-todo']";
+    @Alternatives
     private static final String IN_PROGRESS_COLUMN = ".column:has-text('In Progress'), [data-testid='column-inprogress']";
+    @Alternatives
     private static final String DONE_COLUMN = ".column:has-text('Done'), [data-testid='column-done']";
+    @Alternatives
     private static final String TASK_CARD = ".task-card, .issue-card, [data-testid='task-card']";
     private static final String BOARD_TITLE = ".board-title, h1, h2";
+    // Columns known only by their test id, captured alongside the resolved COLUMN alternative
+    private static final String TESTID_COLUMNS =
+            "[data-testid='column-todo'], [data-testid='column-inprogress'], [data-testid='column-done']";
+    // Scrolls every scrollable column from the top to its end, one viewport per animation frame; returns the frames
+    private static final String SCROLL_COLUMNS = "async cols => {" +
+            "  const frame = () => new Promise(r => requestAnimationFrame(r));" +
+            "  let frames = 0;" +
+            "  for (const col of cols) {" +
+            "    if (col.scrollHeight <= col.clientHeight + 1) continue;" +
+            "    col.scrollTop = 0;" +
+            "    await frame();" +
+            "    while (col.scrollTop + col.clientHeight < col.scrollHeight - 1) {" +
+            "      const before = col.scrollTop;" +
+            "      col.scrollTop = before + col.clientHeight;" +
+            "      await frame();" +
+            "      frames++;" +
+            "      if (col.scrollTop === before) break;" +
+            "    }" +
+            "  }" +
+            "  return frames;" +
+            "}";
+
+    // Last snapshot taken since the last action on this page; answers the has*/get* queries
+    private BoardSnapshot lastSnapshot;
 
     public BoardPage(Page page) {
         super(page);
     }
 
     public void open(String boardId) {
-        page.navigate(BASE_URL + "/board/" + boardId);
-        waitForPageLoad();
+        lastSnapshot = null;
+        // Navigation timing only describes full page loads
+        if (timed("open", () -> openPath("/board/" + boardId))) {
+            capturePerformance();
+        }
+    }
+
+    /**
+     * Navigates to the board and returns as soon as the first task card is visible, without waiting for the
+     * rest of the board to settle; {@link #open(String)} is the time to the fully rendered board
+     */
+    public void openUntilFirstTask(String boardId) {
+        lastSnapshot = null;
+        timed("openUntilFirstTask", () -> {
+            page.navigate(baseUrl() + "/board/" + boardId, new Page.NavigateOptions().setWaitUntil(WaitUntilState.COMMIT));
+            locator(TASK_CARD).first().waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        });
     }
 
     public void waitForBoardLoad() {
-        page.waitForSelector(BOARD_CONTAINER, new Page.WaitForSelectorOptions()
-                .setState(WaitForSelectorState.VISIBLE)
-                .setTimeout(10000));
+        lastSnapshot = null;
+        timed("waitForBoardLoad", () -> {
+            page.waitForSelector(resolve(BOARD_CONTAINER), new Page.WaitForSelectorOptions()
+                    .setState(WaitForSelectorState.VISIBLE)
+                    .setTimeout(RunProfile.current().modalTimeout()));
+        });
     }
 
     public String getBoardTitle() {
-        return page.locator(BOARD_TITLE).first().textContent();
+        return timed("getBoardTitle", () -> locator(BOARD_TITLE).first().textContent());
+    }
+
+    /**
+     * Captures columns and cards in one browser round trip; use it when asking several questions about the board.
+     * The column and task queries below reuse the last snapshot until the next action on this page, so call
+     * this again after changing the board through another page object.
+     */
+    public BoardSnapshot snapshot() {
+        lastSnapshot = timed("snapshot", () ->
+                BoardSnapshot.capture(page, resolve(COLUMN) + ", " + TESTID_COLUMNS, resolve(TASK_CARD)));
+        return lastSnapshot;
+    }
+
+    private BoardSnapshot currentSnapshot() {
+        return lastSnapshot != null ? lastSnapshot : snapshot();
     }
 
     public boolean hasTodoColumn() {
-        return page.locator(TODO_COLUMN).count() > 0 ||
-               page.locator(":has-text('To Do')").count() > 0 ||
-               page.locator(":has-text('Backlog')").count() > 0;
+        return timed("hasTodoColumn", () -> currentSnapshot().hasColumn(BoardSnapshot.ColumnKind.TODO));
     }
 
     public boolean hasInProgressColumn() {
-        return page.locator(IN_PROGRESS_COLUMN).count() > 0 ||
-               page.locator(":has-text('In Progress')").count() > 0;
+        return timed("hasInProgressColumn", () -> currentSnapshot().hasColumn(BoardSnapshot.ColumnKind.IN_PROGRESS));
     }
 
     public boolean hasDoneColumn() {
-        return page.locator(DONE_COLUMN).count() > 0 ||
-               page.locator(":has-text('Done')").count() > 0;
+        return timed("hasDoneColumn", () -> currentSnapshot().hasColumn(BoardSnapshot.ColumnKind.DONE));
     }
 
     public boolean hasAllColumns() {
-        return hasTodoColumn() && hasInProgressColumn() && hasDoneColumn();
+        return timed("hasAllColumns", () -> currentSnapshot().hasAllColumns());
     }
 
     public List<String> getTodoTasks() {
-        return page.locator(TODO_COLUMN + " " + TASK_CARD).allTextContents();
+        return timed("getTodoTasks", () -> currentSnapshot().getCardTexts(BoardSnapshot.ColumnKind.TODO));
     }
 
     public List<String> getInProgressTasks() {
-        return page.locator(IN_PROGRESS_COLUMN + " " + TASK_CARD).allTextContents();
+        return timed("getInProgressTasks", () -> currentSnapshot().getCardTexts(BoardSnapshot.ColumnKind.IN_PROGRESS));
     }
 
     public List<String> getDoneTasks() {
-        return page.locator(DONE_COLUMN + " " + TASK_CARD).allTextContents();
+        return timed("getDoneTasks", () -> currentSnapshot().getCardTexts(BoardSnapshot.ColumnKind.DONE));
     }
 
     public int getTotalTaskCount() {
-        return page.locator(TASK_CARD).count();
+        return timed("getTotalTaskCount", () -> locator(TASK_CARD).count());
     }
 
     public boolean isTaskInColumn(String taskName, String columnName) {
-        String columnSelector;
-        switch (columnName.toLowerCase()) {
-            case "to do":
-            case "todo":
-            case "backlog":
-                columnSelector = TODO_COLUMN;
-                break;
-            case "in progress":
-            case "inprogress":
-                columnSelector = IN_PROGRESS_COLUMN;
-                break;
-            case "done":
-                columnSelector = DONE_COLUMN;
-                break;
-            default:
-                columnSelector = COLUMN + ":has-text('" + columnName + "')";
-        }
-        return page.locator(columnSelector + " " + TASK_CARD + ":has-text('" + taskName + "')").count() > 0;
+        return timed("isTaskInColumn", () -> currentSnapshot().isTaskInColumn(taskName, columnName));
+    }
+
+    /**
+     * Scrolls every column through all of its cards, waiting for a rendered frame after each step;
+     * returns the number of scroll steps (0 when no column overflows)
+     */
+    public int scrollColumnsToEnd() {
+        lastSnapshot = null;
+        return timed("scrollColumnsToEnd", () -> ((Number) locator(COLUMN).evaluateAll(SCROLL_COLUMNS)).intValue());
+    }
+
+    /**
+     * Opens the first task card in the given column
+     */
+    public TaskCardModal openTaskCardInColumn(String columnName) {
+        lastSnapshot = null;
+        return timed("openTaskCardInColumn", () -> {
+            String columnSelector;
+            switch (BoardSnapshot.kindOf(columnName)) {
+                case TODO:
+                    columnSelector = resolve(TODO_COLUMN);
+                    break;
+                case IN_PROGRESS:
+                    columnSelector = resolve(IN_PROGRESS_COLUMN);
+                    break;
+                case DONE:
+                    columnSelector = resolve(DONE_COLUMN);
+                    break;
+                default:
+                    columnSelector = resolve(COLUMN) + ":has-text('" + columnName + "')";
+            }
+            page.locator(columnSelector + " " + resolve(TASK_CARD)).first().click();
+            return new TaskCardModal(page);
+        });
     }
 
     public TaskCardModal openTaskCard(String taskName) {
-        page.locator(TASK_CARD + ":has-text('" + taskName + "')").first().click();
-        return new TaskCardModal(page);
+        lastSnapshot = null;
+        return timed("openTaskCard", () -> {
+            page.locator(resolve(TASK_CARD) + ":has-text('" + taskName + "')").first().click();
+            return new TaskCardModal(page);
+        });
     }
 
     public boolean isTaskVisible(String taskName) {
-        return page.locator(TASK_CARD + ":has-text('" + taskName + "')").count() > 0;
+        return timed("isTaskVisible", () -> page.locator(resolve(TASK_CARD) + ":has-text('" + taskName + "')").count() > 0);
     }
 
     public boolean isBoardVisible() {
-        return page.locator(BOARD_CONTAINER).isVisible() ||
-               page.locator(COLUMN).count() > 0;
+        return timed("isBoardVisible", () -> {
+            return locator(BOARD_CONTAINER).isVisible() ||
+                   locator(COLUMN).count() > 0;
+        });
     }
 }
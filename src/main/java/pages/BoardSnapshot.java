@@ -0,0 +1,188 @@
+package pages;
+
+import com.microsoft.playwright.Page;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Board state captured in a single page.evaluate round trip:
+ * columns with their cards and card fields, plus which column labels appear on the page.
+ * All board queries are then answered in Java without further calls to the browser.
+ */
+public final class BoardSnapshot {
+
+    public enum ColumnKind { TODO, IN_PROGRESS, DONE, OTHER }
+
+    private static final List<String> LABELS = List.of("To Do", "Backlog", "In Progress", "Done");
+
+    private static final String CAPTURE = "([columnSel, cardSel, labels]) => {" +
+            "  const text = e => (e && e.textContent || '').trim();" +
+            "  const columns = Array.from(document.querySelectorAll(columnSel))" +
+            "    .filter(c => !c.parentElement || !c.parentElement.closest(columnSel))" +
+            "    .map(c => ({" +
+            "      name: c.dataset.testid || text(c.querySelector('.column-title, .column-header, h1, h2, h3, h4'))" +
+            "            || (c.innerText || '').split('\\n')[0].trim()," +
+            "      cards: Array.from(c.querySelectorAll(cardSel)).map(card => ({" +
+            "        title: text(card.querySelector(\"[data-testid='task-title'], .task-title, h3, h4, h5\") || card)," +
+            "        text: card.textContent || ''," +
+            "        data: Object.assign({}, card.dataset)" +
+            "      }))" +
+            "    }));" +
+            "  const body = document.body ? document.body.innerText : '';" +
+            "  return {" +
+            "    columns: columns," +
+            "    totalCards: document.querySelectorAll(cardSel).length," +
+            "    labels: labels.filter(l => body.includes(l))" +
+            "  };" +
+            "}";
+
+    private final List<Column> columns;
+    private final int totalCards;
+    private final List<String> visibleLabels;
+
+    private BoardSnapshot(List<Column> columns, int totalCards, List<String> visibleLabels) {
+        this.columns = columns;
+        this.totalCards = totalCards;
+        this.visibleLabels = visibleLabels;
+    }
+
+    /**
+     * Captures the board; selectors must be plain CSS (comma lists allowed)
+     */
+    @SuppressWarnings("unchecked")
+    public static BoardSnapshot capture(Page page, String columnSelector, String cardSelector) {
+        Map<String, Object> result = (Map<String, Object>) page.evaluate(CAPTURE,
+                List.of(columnSelector, cardSelector, LABELS));
+        List<Column> columns = new ArrayList<>();
+        for (Object c : (List<Object>) result.get("columns")) {
+            Map<String, Object> column = (Map<String, Object>) c;
+            List<Card> cards = new ArrayList<>();
+            for (Object card : (List<Object>) column.get("cards")) {
+                Map<String, Object> fields = (Map<String, Object>) card;
+                cards.add(new Card((String) fields.get("title"), (String) fields.get("text"),
+                        (Map<String, String>) (Map<?, ?>) fields.get("data")));
+            }
+            columns.add(new Column((String) column.get("name"), cards));
+        }
+        return new BoardSnapshot(columns, ((Number) result.get("totalCards")).intValue(),
+                (List<String>) result.get("labels"));
+    }
+
+    /**
+     * Maps a column name or alias ("To Do", "todo", "Backlog", "column-inprogress", ...) to its kind
+     */
+    public static ColumnKind kindOf(String name) {
+        String n = name.toLowerCase(Locale.ROOT).replaceAll("[\\s_-]", "");
+        if (n.contains("todo") || n.contains("backlog")) {
+            return ColumnKind.TODO;
+        }
+        if (n.contains("inprogress")) {
+            return ColumnKind.IN_PROGRESS;
+        }
+        if (n.contains("done")) {
+            return ColumnKind.DONE;
+        }
+        return ColumnKind.OTHER;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public int getTotalCards() {
+        return totalCards;
+    }
+
+    /**
+     * True if a column of this kind exists, or (like the old text lookup) its label is shown on the page
+     */
+    public boolean hasColumn(ColumnKind kind) {
+        return columns.stream().anyMatch(c -> c.getKind() == kind) ||
+                visibleLabels.stream().anyMatch(label -> kindOf(label) == kind);
+    }
+
+    public boolean hasAllColumns() {
+        return hasColumn(ColumnKind.TODO) && hasColumn(ColumnKind.IN_PROGRESS) && hasColumn(ColumnKind.DONE);
+    }
+
+    /**
+     * Text contents of all cards in columns of this kind
+     */
+    public List<String> getCardTexts(ColumnKind kind) {
+        List<String> texts = new ArrayList<>();
+        for (Column column : columns) {
+            if (column.getKind() == kind) {
+                column.getCards().forEach(card -> texts.add(card.getText()));
+            }
+        }
+        return texts;
+    }
+
+    public boolean isTaskInColumn(String taskName, String columnName) {
+        ColumnKind kind = kindOf(columnName);
+        for (Column column : columns) {
+            boolean matches = kind != ColumnKind.OTHER
+                    ? column.getKind() == kind
+                    : column.getName().contains(columnName);
+            if (matches && column.getCards().stream().anyMatch(card -> card.getText().contains(taskName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static final class Column {
+        private final String name;
+        private final ColumnKind kind;
+        private final List<Card> cards;
+
+        Column(String name, List<Card> cards) {
+            this.name = name;
+            this.kind = kindOf(name);
+            this.cards = Collections.unmodifiableList(cards);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public ColumnKind getKind() {
+            return kind;
+        }
+
+        public List<Card> getCards() {
+            return cards;
+        }
+    }
+
+    public static final class Card {
+        private final String title;
+        private final String text;
+        private final Map<String, String> data;
+
+        Card(String title, String text, Map<String, String> data) {
+            this.title = title;
+            this.text = text;
+            this.data = data;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * data-* attributes of the card element
+         */
+        public Map<String, String> getData() {
+            return data;
+        }
+    }
+}
@@ -3,8 +3,21 @@ package pages;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import config.RunProfile;
+import metrics.SearchLatency;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Page Object for Issues (Tasks) list page
@@ -13,102 +26,370 @@ public class IssuesPage extends BasePage {
 
     // Locators
     private static final String SEARCH_INPUT = "input[placeholder*='Поиск']";
+    @Alternatives
     private static final String STATUS_FILTER = "select[name='status'], [data-testid='status-filter'], .status-filter select";
+    @Alternatives
     private static final String BOARD_FILTER = "select[name='board'], [data-testid='board-filter'], .board-filter select";
+    @Alternatives
     private static final String CREATE_TASK_BUTTON = "button:has-text('Создать задачу'), [data-testid='create-issue-btn']";
+    @Alternatives
     private static final String TASK_LIST = ".issue-list, .task-list, [data-testid='issues-list']";
+    @Alternatives
     private static final String TASK_CARD = ".issue-card, .task-card, [data-testid='issue-card']";
     private static final String NO_TASKS_MESSAGE = ":has-text('Задачи не найдены'), :has-text('Нет задач')";
 
+    private static final int DEFAULT_CHUNK_SIZE = 200;
+    private static final AtomicLong STREAM_IDS = new AtomicLong();
+
+    // Returns up to `size` cards after this stream's cursor (the last emitted card). If that card is gone or now
+    // shows other content (re-rendered or recycled list), reading restarts at the first card; the Java side
+    // drops keys it has already emitted. Only emitted cards are read.
+    private static final String NEXT_CHUNK = "([id, cardSel, size]) => {" +
+            "  const streams = window.__taskStreams = window.__taskStreams || {};" +
+            "  const s = streams[id] = streams[id] || { last: null, lastText: null, index: 0 };" +
+            "  const text = e => (e && e.textContent || '').trim();" +
+            "  const field = (card, name) => text(card.querySelector(`[data-testid='task-${name}'], .task-${name}`))" +
+            "    || card.dataset[name] || '';" +
+            "  const hash = s => { let h = 0; for (let i = 0; i < s.length; i++) h = (h * 31 + s.charCodeAt(i)) | 0; return 'h' + h; };" +
+            "  const cards = document.querySelectorAll(cardSel);" +
+            "  let start = 0;" +
+            "  if (s.last && s.last.isConnected && s.last.textContent === s.lastText) {" +
+            "    start = cards[s.index - 1] === s.last ? s.index : Array.prototype.indexOf.call(cards, s.last) + 1;" +
+            "  }" +
+            "  const out = [];" +
+            "  for (let i = start; i < cards.length && out.length < size; i++) {" +
+            "    const card = cards[i];" +
+            "    const t = card.textContent || '';" +
+            "    out.push({" +
+            "      key: card.dataset.id || card.getAttribute('data-key') || hash(t)," +
+            "      title: text(card.querySelector(\"[data-testid='task-title'], .task-title, h3, h4\")) || t.trim().split('\\n')[0]," +
+            "      status: field(card, 'status'), priority: field(card, 'priority'), assignee: field(card, 'assignee')," +
+            "      text: t" +
+            "    });" +
+            "    s.last = card; s.lastText = t; s.index = i + 1;" +
+            "  }" +
+            "  return out;" +
+            "}";
+
+    // Scrolls the list (or the nearest scrollable ancestor of the last card) by one viewport; false at the end
+    private static final String SCROLL_LIST = "([listSel, cardSel]) => {" +
+            "  const scrollable = e => e && e.scrollHeight > e.clientHeight + 1 && getComputedStyle(e).overflowY !== 'visible';" +
+            "  let target = document.querySelector(listSel);" +
+            "  if (!scrollable(target)) {" +
+            "    const cards = document.querySelectorAll(cardSel);" +
+            "    target = cards.length ? cards[cards.length - 1].parentElement : null;" +
+            "    while (target && !scrollable(target)) target = target.parentElement;" +
+            "  }" +
+            "  target = target || document.scrollingElement;" +
+            "  const before = target.scrollTop;" +
+            "  target.scrollTop = before + target.clientHeight;" +
+            "  return target.scrollTop !== before;" +
+            "}";
+    // Filters are cleared when every filter select is on its first option ("Все")
+    private static final String FILTERS_CLEARED = "selects => selects.every(s => !(s instanceof HTMLSelectElement) || s.selectedIndex <= 0)";
+    // Timestamps search input events and DOM mutations outside the input; reset on every call
+    private static final String INSTALL_SEARCH_PROBE = "sel => {" +
+            "  const p = window.__searchProbe = window.__searchProbe || (() => {" +
+            "    const probe = {};" +
+            "    const inInput = node => node.nodeType === 1 && node.matches(probe.sel);" +
+            "    document.addEventListener('input', e => { if (inInput(e.target)) probe.inputs.push(performance.now()); }, true);" +
+            "    new MutationObserver(records => {" +
+            "      if (records.some(r => !inInput(r.target))) probe.mutations.push(performance.now());" +
+            "    }).observe(document.body, { subtree: true, childList: true, characterData: true, attributes: true });" +
+            "    return probe;" +
+            "  })();" +
+            "  p.sel = sel;" +
+            "  p.inputs = [];" +
+            "  p.mutations = [];" +
+            "  p.since = performance.now();" +
+            "  performance.clearResourceTimings();" +
+            "}";
+    // Mutations more than 50 ms apart count as separate result updates
+    private static final String READ_SEARCH_PROBE = "() => {" +
+            "  const p = window.__searchProbe;" +
+            "  const first = p.inputs.length ? p.inputs[0] : p.since;" +
+            "  const last = p.inputs.length ? p.inputs[p.inputs.length - 1] : p.since;" +
+            "  const after = p.mutations.filter(t => t >= last);" +
+            "  let updates = 0, prev = -Infinity;" +
+            "  for (const t of p.mutations) { if (t >= first && t - prev > 50) updates++; prev = t; }" +
+            "  const requests = performance.getEntriesByType('resource')" +
+            "    .filter(e => (e.initiatorType === 'fetch' || e.initiatorType === 'xmlhttprequest') && e.startTime >= p.since).length;" +
+            "  return { keystrokes: p.inputs.length, updates, requests," +
+            "    firstChangeMs: after.length ? after[0] - last : -1," +
+            "    stableMs: after.length ? after[after.length - 1] - last : -1 };" +
+            "}";
+    private static final String RELEASE_STREAM = "id => { if (window.__taskStreams) delete window.__taskStreams[id]; }";
+
     public IssuesPage(Page page) {
         super(page);
     }
 
     public void open() {
-        page.navigate(BASE_URL + "/issues");
-        waitForPageLoad();
+        // Navigation timing only describes full page loads
+        if (timed("open", () -> openPath("/issues"))) {
+            capturePerformance();
+        }
     }
 
+    /**
+     * No open dialog and no search query or filter kept by the SPA from a previous test
+     */
+    @Override
+    protected boolean isFreshState() {
+        Locator search = locator(SEARCH_INPUT);
+        return super.isFreshState()
+                && (search.count() == 0 || search.first().inputValue().isEmpty())
+                && Boolean.TRUE.equals(page.locator(resolve(STATUS_FILTER) + ", " + resolve(BOARD_FILTER)).evaluateAll(FILTERS_CLEARED));
+    }
+
+    /**
+     * Enters the query and waits until the task list shows its results (see {@link #updateList})
+     */
     public void searchTask(String query) {
-        page.locator(SEARCH_INPUT).fill(query);
-        // Wait for search results to update
-        page.waitForTimeout(500);
+        timed("searchTask", () -> {
+            Locator search = locator(SEARCH_INPUT).first();
+            if (query.equals(search.inputValue())) {
+                return;
+            }
+            updateList(() -> search.fill(query));
+        });
+    }
+
+    /**
+     * Runs an action that triggers the debounced task list update (search, filters) within one window of
+     * searchQuietPeriod, which outlasts the debounce: returns once the list content changed and the DOM settled
+     * in what is left of the window, or at its end if the list did not change, since it then already showed
+     * the results
+     */
+    private void updateList(Runnable action) {
+        performAndSettle(action, new SettleOptions()
+                .setWatchSelector(resolve(TASK_LIST))
+                .setTimeout(searchQuietPeriod()));
+    }
+
+    /**
+     * Types the query one character at a time and waits for the result list to stabilize after each keystroke.
+     * Returns the time-to-results in ms per query length (negative where a keystroke did not change the results)
+     * and records it in {@link SearchLatency}.
+     */
+    public double[] measureSearchKeystrokes(String query) {
+        return timed("measureSearchKeystrokes", () -> {
+            clearSearch();
+            locator(SEARCH_INPUT).first().focus();
+            int[] keys = query.codePoints().toArray();
+            double[] stableMs = new double[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                String key = new String(keys, i, 1);
+                Map<String, Object> probe = probeSearch(() -> page.keyboard().type(key));
+                stableMs[i] = number(probe, "stableMs");
+                SearchLatency.recordKeystroke(i + 1, stableMs[i]);
+            }
+            return stableMs;
+        });
+    }
+
+    /**
+     * Types the whole query with the given delay between keys, as a user would, and records in {@link SearchLatency}
+     * how many result updates and requests the keystrokes caused and how long after the last key the results changed
+     */
+    public void measureSearchBurst(String query, double keyDelayMs) {
+        timed("measureSearchBurst", () -> {
+            clearSearch();
+            Locator search = locator(SEARCH_INPUT).first();
+            Map<String, Object> probe = probeSearch(() -> search.pressSequentially(query,
+                    new Locator.PressSequentiallyOptions().setDelay(keyDelayMs)));
+            SearchLatency.recordBurst(query, keyDelayMs, (int) number(probe, "keystrokes"), (int) number(probe, "updates"),
+                    (int) number(probe, "requests"), number(probe, "firstChangeMs"), number(probe, "stableMs"));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> probeSearch(Runnable typing) {
+        page.evaluate(INSTALL_SEARCH_PROBE, resolve(SEARCH_INPUT));
+        // The quiet period has to outlast the search debounce, or a keystroke would count as settled too early
+        performAndSettle(typing, new SettleOptions().setQuietPeriod(searchQuietPeriod()));
+        return (Map<String, Object>) page.evaluate(READ_SEARCH_PROBE);
+    }
+
+    private static double searchQuietPeriod() {
+        return RunProfile.current().getDouble("searchQuietPeriod", 750);
+    }
+
+    private static double number(Map<String, Object> probe, String key) {
+        return ((Number) probe.get(key)).doubleValue();
     }
 
+    /**
+     * Clears the query and waits out the list update it triggers, so the update does not land after the caller
+     * reads the list
+     */
     public void clearSearch() {
-        page.locator(SEARCH_INPUT).clear();
-        page.waitForTimeout(500);
+        timed("clearSearch", () -> {
+            Locator search = locator(SEARCH_INPUT).first();
+            if (!search.inputValue().isEmpty()) {
+                updateList(search::clear);
+            }
+        });
     }
 
     public void selectStatusFilter(String status) {
-        Locator statusFilter = page.locator(STATUS_FILTER).first();
-        if (statusFilter.isVisible()) {
-            statusFilter.selectOption(status);
-        } else {
-            // Try clicking on filter dropdown
-            page.locator("text=Статус").click();
-            page.locator("text=" + status).click();
-        }
-        page.waitForTimeout(500);
+        timed("selectStatusFilter", () -> {
+            Locator statusFilter = locator(STATUS_FILTER).first();
+            // Selecting the current option fires no change and would only wait out the window
+            if (statusFilter.isVisible() && status.equals(statusFilter.inputValue())) {
+                return;
+            }
+            updateList(() -> {
+                if (statusFilter.isVisible()) {
+                    statusFilter.selectOption(status);
+                } else {
+                    // Try clicking on filter dropdown
+                    page.locator("text=Статус").click();
+                    page.locator("text=" + status).click();
+                }
+            });
+        });
     }
 
     public void selectBoardFilter(String board) {
-        Locator boardFilter = page.locator(BOARD_FILTER).first();
-        if (boardFilter.isVisible()) {
-            boardFilter.selectOption(board);
-        } else {
-            // Try clicking on filter dropdown
-            page.locator("text=Доска").click();
-            page.locator("text=" + board).click();
-        }
-        page.waitForTimeout(500);
+        timed("selectBoardFilter", () -> {
+            Locator boardFilter = locator(BOARD_FILTER).first();
+            // Selecting the current option fires no change and would only wait out the window
+            if (boardFilter.isVisible() && board.equals(boardFilter.inputValue())) {
+                return;
+            }
+            updateList(() -> {
+                if (boardFilter.isVisible()) {
+                    boardFilter.selectOption(board);
+                } else {
+                    // Try clicking on filter dropdown
+                    page.locator("text=Доска").click();
+                    page.locator("text=" + board).click();
+                }
+            });
+        });
     }
 
     public void resetFilters() {
-        clearSearch();
-        try {
-            selectStatusFilter("Все");
-            selectBoardFilter("Все");
-        } catch (Exception e) {
-            // Filters may not exist or have different format
-        }
+        timed("resetFilters", () -> {
+            clearSearch();
+            try {
+                selectStatusFilter("Все");
+                selectBoardFilter("Все");
+            } catch (Exception e) {
+                // Filters may not exist or have different format
+            }
+        });
     }
 
     public void clickCreateTaskButton() {
-        page.locator(CREATE_TASK_BUTTON).first().click();
+        timed("clickCreateTaskButton", () -> locator(CREATE_TASK_BUTTON).first().click());
     }
 
     public void clickOnTask(String taskName) {
-        page.locator(TASK_CARD + ":has-text('" + taskName + "')").first().click();
+        timed("clickOnTask", () -> page.locator(resolve(TASK_CARD) + ":has-text('" + taskName + "')").first().click());
     }
 
     public List<String> getTaskNames() {
-        return page.locator(TASK_CARD).allTextContents();
+        return timed("getTaskNames", () -> locator(TASK_CARD).allTextContents());
     }
 
     public int getTaskCount() {
-        return page.locator(TASK_CARD).count();
+        return timed("getTaskCount", () -> locator(TASK_CARD).count());
+    }
+
+    /**
+     * Counts all tasks in the list, including ones a virtualized list has not rendered yet
+     */
+    public long countAllTasks() {
+        return timed("countAllTasks", () -> {
+            try (Stream<TaskRecord> tasks = streamTasks()) {
+                return tasks.count();
+            }
+        });
+    }
+
+    public Stream<TaskRecord> streamTasks() {
+        return streamTasks(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Lazily streams the task list in chunks of at most chunkSize cards.
+     * When the rendered cards are exhausted the list is scrolled, so virtualized lists are walked too.
+     * Each card is emitted once per key (data-id, data-key or a hash of its text), also when the list re-renders;
+     * only the current chunk and the emitted keys are held in memory.
+     */
+    public Stream<TaskRecord> streamTasks(int chunkSize) {
+        String streamId = "s" + STREAM_IDS.incrementAndGet();
+        String cardSelector = resolve(TASK_CARD);
+        String listSelector = resolve(TASK_LIST);
+
+        Spliterator<TaskRecord> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            private final Deque<TaskRecord> buffer = new ArrayDeque<>();
+            private final Set<String> emitted = new HashSet<>();
+            private boolean exhausted;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super TaskRecord> action) {
+                while (buffer.isEmpty() && !exhausted) {
+                    fetchChunk();
+                }
+                if (buffer.isEmpty()) {
+                    return false;
+                }
+                action.accept(buffer.poll());
+                return true;
+            }
+
+            @SuppressWarnings("unchecked")
+            private void fetchChunk() {
+                List<Map<String, String>> chunk = (List<Map<String, String>>) page.evaluate(NEXT_CHUNK,
+                        List.of(streamId, cardSelector, chunkSize));
+                if (!chunk.isEmpty()) {
+                    for (Map<String, String> card : chunk) {
+                        if (emitted.add(card.get("key"))) {
+                            buffer.add(new TaskRecord(card.get("key"), card.get("title"), card.get("status"),
+                                    card.get("priority"), card.get("assignee"), card.get("text")));
+                        }
+                    }
+                    return;
+                }
+                boolean scrolled = (Boolean) page.evaluate(SCROLL_LIST, List.of(listSelector, cardSelector));
+                if (scrolled) {
+                    waitForSettled();
+                } else {
+                    exhausted = true;
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> page.evaluate(RELEASE_STREAM, streamId));
     }
 
     public boolean isTaskVisible(String taskName) {
-        return page.locator(TASK_CARD + ":has-text('" + taskName + "')").count() > 0;
+        return timed("isTaskVisible", () -> page.locator(resolve(TASK_CARD) + ":has-text('" + taskName + "')").count() > 0);
     }
 
     public boolean isNoTasksMessageVisible() {
-        return page.locator(NO_TASKS_MESSAGE).isVisible();
+        return timed("isNoTasksMessageVisible", () -> locator(NO_TASKS_MESSAGE).isVisible());
     }
 
     public boolean isSearchInputVisible() {
-        return page.locator(SEARCH_INPUT).isVisible();
+        return timed("isSearchInputVisible", () -> locator(SEARCH_INPUT).isVisible());
     }
 
     public CreateTaskModal openCreateTaskModal() {
-        clickCreateTaskButton();
-        return new CreateTaskModal(page);
+        return timed("openCreateTaskModal", () -> {
+            clickCreateTaskButton();
+            return new CreateTaskModal(page);
+        });
     }
 
     public TaskCardModal openTaskCard(String taskName) {
-        clickOnTask(taskName);
-        return new TaskCardModal(page);
+        return timed("openTaskCard", () -> {
+            clickOnTask(taskName);
+            return new TaskCardModal(page);
+        });
     }
 }
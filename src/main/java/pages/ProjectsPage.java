@@ -11,47 +11,57 @@ import java.util.List;
 public class ProjectsPage extends BasePage {
 
     // Locators
+    @Alternatives
     private static final String PROJECT_LIST = ".project-list, [data-testid='projects-list']";
+    @Alternatives
     private static final String PROJECT_CARD = ".project-card, [data-testid='project-card']";
     private static final String GO_TO_BOARD_BUTTON = "button:has-text('Перейти к доске'), button:has-text('На доску'), [data-testid='go-to-board']";
-    private static final String PROJECT_TITLE = ".project-title, .project-name, h3";
+    // Looked up inside PROJECT_CARD
+    @Alternatives
+    private static final String PROJECT_TITLE = ".project-title, .project-name, [data-testid='project-title']";
 
     public ProjectsPage(Page page) {
         super(page);
     }
 
     public void open() {
-        page.navigate(BASE_URL + "/projects");
-        waitForPageLoad();
+        // Navigation timing only describes full page loads
+        if (timed("open", () -> openPath("/projects"))) {
+            capturePerformance();
+        }
     }
 
     public List<String> getProjectNames() {
-        return page.locator(PROJECT_CARD + " " + PROJECT_TITLE).allTextContents();
+        return timed("getProjectNames", () -> locator(PROJECT_CARD).locator(resolve(PROJECT_TITLE)).allTextContents());
     }
 
     public int getProjectCount() {
-        return page.locator(PROJECT_CARD).count();
+        return timed("getProjectCount", () -> locator(PROJECT_CARD).count());
     }
 
     public boolean isProjectVisible(String projectName) {
-        return page.locator(PROJECT_CARD + ":has-text('" + projectName + "')").count() > 0;
+        return timed("isProjectVisible", () -> page.locator(resolve(PROJECT_CARD) + ":has-text('" + projectName + "')").count() > 0);
     }
 
     public BoardPage goToProjectBoard(String projectName) {
-        Locator projectCard = page.locator(PROJECT_CARD + ":has-text('" + projectName + "')");
-        Locator goToBoardBtn = projectCard.locator(GO_TO_BOARD_BUTTON);
-
-        if (goToBoardBtn.isVisible()) {
-            goToBoardBtn.click();
-        } else {
-            // Click on project card itself
-            projectCard.click();
-        }
+        return timed("goToProjectBoard", () -> {
+            Locator projectCard = page.locator(resolve(PROJECT_CARD) + ":has-text('" + projectName + "')");
+            Locator goToBoardBtn = projectCard.locator(resolve(GO_TO_BOARD_BUTTON));
+
+            performAndSettle(() -> {
+                if (goToBoardBtn.isVisible()) {
+                    goToBoardBtn.click();
+                } else {
+                    // Click on project card itself
+                    projectCard.click();
+                }
+            });
 
-        return new BoardPage(page);
+            return new BoardPage(page);
+        });
     }
 
     public void clickProject(String projectName) {
-        page.locator(PROJECT_CARD + ":has-text('" + projectName + "')").click();
+        timed("clickProject", () -> page.locator(resolve(PROJECT_CARD) + ":has-text('" + projectName + "')").click());
     }
 }
@@ -0,0 +1,141 @@
+package pages;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Page;
+import config.RunProfile;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves selector lists marked {@link Alternatives} ("a, b, c" that all mean the same element) to the single
+ * alternative that matches. Each list is first checked as a whole, so an absent element costs one round trip;
+ * when it is present the alternatives are probed in declaration order and the first match is cached per page
+ * type for the rest of the run. Unmarked lists are returned unchanged and used as one locator.
+ * Disable with -DselectorCache=false.
+ */
+public final class SelectorCache {
+
+    private static final boolean ENABLED = RunProfile.current().getBoolean("selectorCache", true);
+
+    // "IssuesPage|<selector list>" -> resolved alternative
+    private static final Map<String, String> RESOLVED = new ConcurrentHashMap<>();
+    // "IssuesPage|<selector list>" -> alternatives probed on a page where the list matched, and whether they did
+    private static final Map<String, Map<String, Boolean>> PROBED = new ConcurrentHashMap<>();
+    // page class -> values of its (and its superclasses') @Alternatives constants
+    private static final Map<Class<?>, Set<String>> MARKED = new ConcurrentHashMap<>();
+
+    private SelectorCache() {
+    }
+
+    public static String resolve(Page page, Class<?> pageType, String selectorList) {
+        if (!ENABLED || !isMarked(pageType, selectorList)) {
+            return selectorList;
+        }
+        String key = pageType.getSimpleName() + "|" + selectorList;
+        String resolved = RESOLVED.get(key);
+        if (resolved != null) {
+            return resolved;
+        }
+        List<String> alternatives = split(selectorList);
+        if (alternatives.size() == 1 || page.locator(selectorList).count() == 0) {
+            return selectorList;
+        }
+        Map<String, Boolean> probed = PROBED.computeIfAbsent(key, k -> new ConcurrentHashMap<>());
+        for (String alternative : alternatives) {
+            boolean matches = page.locator(alternative).count() > 0;
+            probed.merge(alternative, matches, Boolean::logicalOr);
+            if (matches) {
+                RESOLVED.put(key, alternative);
+                return alternative;
+            }
+        }
+        return selectorList;
+    }
+
+    /**
+     * Whether the list is the value of an {@link Alternatives} constant of the page class or its superclasses
+     */
+    static boolean isMarked(Class<?> pageType, String selectorList) {
+        return MARKED.computeIfAbsent(pageType, SelectorCache::marked).contains(selectorList);
+    }
+
+    private static Set<String> marked(Class<?> pageType) {
+        Set<String> values = new HashSet<>();
+        for (Class<?> c = pageType; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Alternatives.class) && Modifier.isStatic(field.getModifiers())
+                        && field.getType() == String.class) {
+                    try {
+                        field.setAccessible(true);
+                        values.add((String) field.get(null));
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        // inaccessible constant: used as one locator
+                    }
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Splits a selector list on top-level commas (not inside quotes, brackets or parentheses)
+     */
+    public static List<String> split(String selectorList) {
+        List<String> parts = new ArrayList<>();
+        int depth = 0;
+        char quote = 0;
+        int start = 0;
+        for (int i = 0; i < selectorList.length(); i++) {
+            char c = selectorList.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(' || c == '[') {
+                depth++;
+            } else if (c == ')' || c == ']') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                parts.add(selectorList.substring(start, i).trim());
+                start = i + 1;
+            }
+        }
+        parts.add(selectorList.substring(start).trim());
+        return parts;
+    }
+
+    /**
+     * Per page type and selector list: the resolved alternative and the alternatives that were probed
+     * but never matched (alternatives after the resolved one are never probed and not listed)
+     */
+    public static JsonObject report() {
+        Map<String, JsonObject> byPage = new TreeMap<>();
+        for (Map.Entry<String, Map<String, Boolean>> entry : new TreeMap<>(PROBED).entrySet()) {
+            String[] key = entry.getKey().split("\\|", 2);
+            JsonObject item = new JsonObject();
+            item.addProperty("resolved", RESOLVED.get(entry.getKey()));
+            JsonArray unmatched = new JsonArray();
+            for (String alternative : split(key[1])) {
+                if (Boolean.FALSE.equals(entry.getValue().get(alternative))) {
+                    unmatched.add(alternative);
+                }
+            }
+            item.add("neverMatched", unmatched);
+            byPage.computeIfAbsent(key[0], k -> new JsonObject()).add(key[1], item);
+        }
+        JsonObject report = new JsonObject();
+        byPage.forEach(report::add);
+        return report;
+    }
+}
@@ -0,0 +1,64 @@
+package pages;
+
+import config.RunProfile;
+
+/**
+ * Options for {@link BasePage#performAndSettle(Runnable, SettleOptions)}.
+ * The UI is considered settled when the matching response (if any) has arrived,
+ * the watched element (if any) has changed, and the DOM has been quiet for the quiet period.
+ */
+public class SettleOptions {
+
+    private String responseUrl;
+    private String watchSelector;
+    private double quietPeriod = RunProfile.current().settleQuietPeriod();
+    private double timeout = RunProfile.current().settleTimeout();
+
+    /**
+     * Wait for a response whose URL contains this substring
+     */
+    public SettleOptions setResponseUrl(String responseUrl) {
+        this.responseUrl = responseUrl;
+        return this;
+    }
+
+    /**
+     * Wait for the content of this element to change
+     */
+    public SettleOptions setWatchSelector(String watchSelector) {
+        this.watchSelector = watchSelector;
+        return this;
+    }
+
+    /**
+     * Time in ms without DOM mutations after which the page counts as settled
+     */
+    public SettleOptions setQuietPeriod(double quietPeriod) {
+        this.quietPeriod = quietPeriod;
+        return this;
+    }
+
+    /**
+     * Upper bound in ms for the whole wait
+     */
+    public SettleOptions setTimeout(double timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public String getResponseUrl() {
+        return responseUrl;
+    }
+
+    public String getWatchSelector() {
+        return watchSelector;
+    }
+
+    public double getQuietPeriod() {
+        return quietPeriod;
+    }
+
+    public double getTimeout() {
+        return timeout;
+    }
+}
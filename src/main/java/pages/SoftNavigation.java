@@ -0,0 +1,27 @@
+package pages;
+
+import com.microsoft.playwright.Page;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Pages kept warm between tests: page objects open app paths on them with client-side
+ * route changes instead of reloading the SPA (see {@link BasePage#openPath(String)})
+ */
+public final class SoftNavigation {
+
+    private static final Set<Page> PAGES = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<Page, Boolean>()));
+
+    private SoftNavigation() {
+    }
+
+    public static void enable(Page page) {
+        PAGES.add(page);
+    }
+
+    public static boolean isEnabled(Page page) {
+        return PAGES.contains(page);
+    }
+}
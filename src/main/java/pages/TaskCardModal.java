@@ -3,6 +3,7 @@ package pages;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import config.RunProfile;
 
 /**
  * Page Object for Task Card Modal (Edit Task)
@@ -11,14 +12,22 @@ public class TaskCardModal extends BasePage {
 
     // Locators
     private static final String MODAL = ".modal, [role='dialog'], [data-testid='edit-issue-modal']";
-    private static final String TITLE_FIELD = "[data-testid='task-title'], .task-title, h2, h3";
+    // Looked up inside MODAL: the task list behind the modal has .task-title headings too
+    @Alternatives
+    private static final String TITLE_FIELD = "[data-testid='task-title'], .task-title";
+    @Alternatives
     private static final String DESCRIPTION_FIELD = "[data-testid='task-description'], .task-description";
+    @Alternatives
     private static final String PROJECT_FIELD = "[data-testid='task-project'], .task-project";
+    @Alternatives
     private static final String PRIORITY_FIELD = "[data-testid='task-priority'], .task-priority";
+    @Alternatives
     private static final String STATUS_SELECT = "select[name='status'], [data-testid='status-select']";
+    @Alternatives
     private static final String ASSIGNEE_FIELD = "[data-testid='task-assignee'], .task-assignee";
     private static final String GO_TO_BOARD_BUTTON = "button:has-text('Перейти на доску'), button:has-text('На доску'), [data-testid='go-to-board-btn']";
     private static final String UPDATE_BUTTON = "button:has-text('Обновить'), button:has-text('Сохранить'), [data-testid='update-btn']";
+    @Alternatives
     private static final String CLOSE_BUTTON = "button:has-text('Закрыть'), [data-testid='close-btn'], .close-btn";
 
     public TaskCardModal(Page page) {
@@ -27,79 +36,103 @@ public class TaskCardModal extends BasePage {
     }
 
     private void waitForModal() {
-        page.waitForSelector(MODAL, new Page.WaitForSelectorOptions()
+        page.waitForSelector(resolve(MODAL), new Page.WaitForSelectorOptions()
                 .setState(WaitForSelectorState.VISIBLE)
-                .setTimeout(10000));
+                .setTimeout(RunProfile.current().modalTimeout()));
     }
 
     public String getTitle() {
-        return page.locator(TITLE_FIELD).first().textContent();
+        return timed("getTitle", () -> title().first().textContent());
     }
 
     public String getDescription() {
-        Locator desc = page.locator(DESCRIPTION_FIELD).first();
-        return desc.isVisible() ? desc.textContent() : "";
+        return timed("getDescription", () -> {
+            Locator desc = locator(DESCRIPTION_FIELD).first();
+            return desc.isVisible() ? desc.textContent() : "";
+        });
     }
 
     public String getProject() {
-        Locator project = page.locator(PROJECT_FIELD).first();
-        return project.isVisible() ? project.textContent() : "";
+        return timed("getProject", () -> {
+            Locator project = locator(PROJECT_FIELD).first();
+            return project.isVisible() ? project.textContent() : "";
+        });
     }
 
     public String getPriority() {
-        Locator priority = page.locator(PRIORITY_FIELD).first();
-        return priority.isVisible() ? priority.textContent() : "";
+        return timed("getPriority", () -> {
+            Locator priority = locator(PRIORITY_FIELD).first();
+            return priority.isVisible() ? priority.textContent() : "";
+        });
     }
 
     public String getStatus() {
-        Locator statusSelect = page.locator(STATUS_SELECT).first();
-        if (statusSelect.isVisible()) {
-            return statusSelect.inputValue();
-        }
-        return "";
+        return timed("getStatus", () -> {
+            Locator statusSelect = locator(STATUS_SELECT).first();
+            if (statusSelect.isVisible()) {
+                return statusSelect.inputValue();
+            }
+            return "";
+        });
     }
 
     public void setStatus(String status) {
-        Locator statusSelect = page.locator(STATUS_SELECT).first();
-        if (statusSelect.isVisible()) {
-            statusSelect.selectOption(status);
-        }
+        timed("setStatus", () -> {
+            Locator statusSelect = locator(STATUS_SELECT).first();
+            if (statusSelect.isVisible()) {
+                statusSelect.selectOption(status);
+            }
+        });
     }
 
     public String getAssignee() {
-        Locator assignee = page.locator(ASSIGNEE_FIELD).first();
-        return assignee.isVisible() ? assignee.textContent() : "";
+        return timed("getAssignee", () -> {
+            Locator assignee = locator(ASSIGNEE_FIELD).first();
+            return assignee.isVisible() ? assignee.textContent() : "";
+        });
     }
 
     public boolean isGoToBoardButtonVisible() {
-        return page.locator(GO_TO_BOARD_BUTTON).count() > 0 &&
-               page.locator(GO_TO_BOARD_BUTTON).first().isVisible();
+        return timed("isGoToBoardButtonVisible", () -> {
+            return locator(GO_TO_BOARD_BUTTON).count() > 0 &&
+                   locator(GO_TO_BOARD_BUTTON).first().isVisible();
+        });
     }
 
     public BoardPage clickGoToBoard() {
-        page.locator(GO_TO_BOARD_BUTTON).first().click();
-        return new BoardPage(page);
+        return timed("clickGoToBoard", () -> {
+            performAndSettle(() -> locator(GO_TO_BOARD_BUTTON).first().click());
+            return new BoardPage(page);
+        });
     }
 
     public void clickUpdate() {
-        page.locator(UPDATE_BUTTON).first().click();
+        timed("clickUpdate", () -> performAndSettle(() -> locator(UPDATE_BUTTON).first().click()));
     }
 
     public void close() {
-        Locator closeBtn = page.locator(CLOSE_BUTTON).first();
-        if (closeBtn.isVisible()) {
-            closeBtn.click();
-        } else {
-            // Try pressing Escape
-            page.keyboard().press("Escape");
-        }
+        timed("close", () -> {
+            Locator closeBtn = locator(CLOSE_BUTTON).first();
+            performAndSettle(() -> {
+                if (closeBtn.isVisible()) {
+                    closeBtn.click();
+                } else {
+                    // Try pressing Escape
+                    page.keyboard().press("Escape");
+                }
+            });
+        });
     }
 
     public boolean isModalVisible() {
-        return page.locator(MODAL).isVisible();
+        return timed("isModalVisible", () -> locator(MODAL).isVisible());
     }
 
     public boolean hasAllRequiredFields() {
-        return page.locator(TITLE_FIELD).count() > 0;
+        return timed("hasAllRequiredFields", () -> title().count() > 0);
+    }
+
+    private Locator title() {
+        return locator(MODAL).locator(resolve(TITLE_FIELD));
     }
 }
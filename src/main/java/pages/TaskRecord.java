@@ -0,0 +1,57 @@
+package pages;
+
+/**
+ * Structured task card from the issues list, produced by {@link IssuesPage#streamTasks(int)}
+ */
+public final class TaskRecord {
+    private final String key;
+    private final String title;
+    private final String status;
+    private final String priority;
+    private final String assignee;
+    private final String text;
+
+    public TaskRecord(String key, String title, String status, String priority, String assignee, String text) {
+        this.key = key;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.assignee = assignee;
+        this.text = text;
+    }
+
+    /**
+     * data-id of the card if present, otherwise a hash of its text
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public String getAssignee() {
+        return assignee;
+    }
+
+    /**
+     * Full text content of the card
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskRecord[" + key + ", " + title + ", " + status + "]";
+    }
+}
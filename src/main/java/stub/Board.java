@@ -0,0 +1,28 @@
+package stub;
+
+/**
+ * Immutable board (project) record of the stand-in backend
+ */
+public final class Board {
+    private final int id;
+    private final String name;
+    private final String description;
+
+    public Board(int id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
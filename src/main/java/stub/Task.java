@@ -0,0 +1,60 @@
+package stub;
+
+/**
+ * Immutable task record of the stand-in backend
+ */
+public final class Task {
+    private final int id;
+    private final String title;
+    private final String description;
+    private final String priority;
+    private final String status;
+    private final int boardId;
+    private final int assigneeId;
+
+    public Task(int id, String title, String description, String priority, String status, int boardId, int assigneeId) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.priority = priority;
+        this.status = status;
+        this.boardId = boardId;
+        this.assigneeId = assigneeId;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public int getBoardId() {
+        return boardId;
+    }
+
+    public int getAssigneeId() {
+        return assigneeId;
+    }
+
+    public Task withStatus(String status) {
+        return new Task(id, title, description, priority, status, boardId, assigneeId);
+    }
+
+    public Task withFields(String title, String description, String priority, String status, int assigneeId) {
+        return new Task(id, title, description, priority, status, boardId, assigneeId);
+    }
+}
@@ -0,0 +1,426 @@
+package stub;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import metrics.NetworkStats;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded in-JVM stand-in for the task tracker API (/api/v1: tasks, boards, users, status updates).
+ * Every test works in its own session, a copy-on-write fork of the base state selected
+ * by the X-Stub-Session header, so state changes never leak between tests.
+ * Requests without the header use the default session.
+ * Created records can be deleted one by one (DELETE /api/v1/tasks|boards|users/{id}); records created with
+ * an X-Run-Id header can also be deleted in one call with DELETE /api/v1/runs/{runId}.
+ * Any other GET path serves the fixture front end (/fixture/index.html) bound to the default session.
+ */
+public class TaskTrackerStub implements AutoCloseable {
+
+    public static final String SESSION_HEADER = "X-Stub-Session";
+    public static final String RUN_HEADER = "X-Run-Id";
+    public static final String DEFAULT_SESSION = "default";
+    private static final String API_PREFIX = "/api/v1";
+    private static final String FIXTURE = "/fixture/index.html";
+
+    private static final Pattern TASK = Pattern.compile("/tasks/(\\d+)");
+    private static final Pattern TASK_UPDATE = Pattern.compile("/tasks/update/(\\d+)");
+    private static final Pattern TASK_STATUS = Pattern.compile("/tasks/updateStatus/(\\d+)");
+    private static final Pattern BOARD_TASKS = Pattern.compile("/boards/(\\d+)");
+    private static final Pattern USER_TASKS = Pattern.compile("/users/(\\d+)/tasks");
+    private static final Pattern RUN = Pattern.compile("/runs/([^/]+)");
+    private static final Pattern RECORD = Pattern.compile("/(task|board|user)s/(\\d+)");
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final TrackerState base;
+    private final Map<String, TrackerState> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong sessionCounter = new AtomicLong();
+
+    private TaskTrackerStub(HttpServer server, ExecutorService executor, TrackerState base) {
+        this.server = server;
+        this.executor = executor;
+        this.base = base;
+        sessions.put(DEFAULT_SESSION, base.fork());
+    }
+
+    /**
+     * Starts the stub on a free local port with the given base state
+     */
+    public static TaskTrackerStub start(TrackerState base) {
+        return start(base, 0);
+    }
+
+    public static TaskTrackerStub start(TrackerState base, int port) {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+            ExecutorService executor = Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "task-tracker-stub");
+                thread.setDaemon(true);
+                return thread;
+            });
+            server.setExecutor(executor);
+            TaskTrackerStub stub = new TaskTrackerStub(server, executor, base);
+            server.createContext(API_PREFIX + "/", stub::handle);
+            server.createContext("/", TaskTrackerStub::serveFixture);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot start task tracker stub", e);
+        }
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Forks the base state into a new session and returns its id
+     */
+    public String fork() {
+        return fork(null);
+    }
+
+    /**
+     * Forks an existing session (or the base state when null) into a new session
+     */
+    public String fork(String parent) {
+        TrackerState source = parent == null ? base : state(parent);
+        String id = "s" + sessionCounter.incrementAndGet();
+        sessions.put(id, source.fork());
+        return id;
+    }
+
+    public TrackerState state(String session) {
+        TrackerState state = sessions.get(session);
+        if (state == null) {
+            throw new IllegalArgumentException("Unknown stub session: " + session);
+        }
+        return state;
+    }
+
+    /**
+     * Discards every change made in the default session, e.g. between benchmark iterations
+     */
+    public void reset() {
+        sessions.put(DEFAULT_SESSION, base.fork());
+    }
+
+    public void release(String session) {
+        if (!DEFAULT_SESSION.equals(session)) {
+            sessions.remove(session);
+        }
+    }
+
+    /**
+     * Routes the context's API requests matching the pattern to this stub within the given session
+     */
+    public void route(BrowserContext context, String urlPattern, String session) {
+        context.route(urlPattern, route -> {
+            Request request = route.request();
+            URI uri = URI.create(request.url());
+            String path = uri.getRawPath();
+            int api = path.indexOf(API_PREFIX);
+            if (api < 0) {
+                route.fallback();
+                return;
+            }
+            String target = url() + path.substring(api) + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+            Map<String, String> headers = new HashMap<>(request.headers());
+            headers.remove("host");
+            headers.put(SESSION_HEADER.toLowerCase(), session);
+            APIResponse response = route.fetch(new Route.FetchOptions().setUrl(target).setHeaders(headers));
+            NetworkStats.fulfilled(request);
+            route.fulfill(new Route.FulfillOptions().setResponse(response));
+        });
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            exchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
+            exchange.getResponseHeaders().add("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
+            exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "*");
+            if ("OPTIONS".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            String session = exchange.getRequestHeaders().getFirst(SESSION_HEADER);
+            TrackerState state = sessions.get(session != null ? session : DEFAULT_SESSION);
+            if (state == null) {
+                send(exchange, 400, error("Unknown session " + session));
+                return;
+            }
+            String path = exchange.getRequestURI().getPath().substring(API_PREFIX.length());
+            dispatch(exchange, state, exchange.getRequestMethod(), path);
+        } catch (BadRequest e) {
+            send(exchange, 400, error(e.getMessage()));
+        } catch (RuntimeException e) {
+            send(exchange, 500, error(String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void serveFixture(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] bytes = FixturePage.BYTES;
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private void dispatch(HttpExchange exchange, TrackerState state, String method, String path) throws IOException {
+        Matcher m;
+        if ("GET".equals(method)) {
+            if ("/tasks".equals(path)) {
+                send(exchange, 200, data(tasksJson(state, state.tasks())));
+            } else if ((m = TASK.matcher(path)).matches()) {
+                Task task = state.task(Integer.parseInt(m.group(1)));
+                send(exchange, task != null ? 200 : 404, task != null ? data(taskJson(state, task)) : error("Task not found"));
+            } else if ("/boards".equals(path)) {
+                send(exchange, 200, data(boardsJson(state)));
+            } else if ((m = BOARD_TASKS.matcher(path)).matches()) {
+                int boardId = Integer.parseInt(m.group(1));
+                send(exchange, state.board(boardId) != null ? 200 : 404, state.board(boardId) != null
+                        ? data(tasksJson(state, state.boardTasks(boardId))) : error("Board not found"));
+            } else if ("/users".equals(path)) {
+                send(exchange, 200, data(usersJson(state)));
+            } else if ((m = USER_TASKS.matcher(path)).matches()) {
+                send(exchange, 200, data(tasksJson(state, state.userTasks(Integer.parseInt(m.group(1))))));
+            } else {
+                send(exchange, 404, error("Not found"));
+            }
+        } else if ("POST".equals(method) && "/tasks/create".equals(path)) {
+            JsonObject body = body(exchange);
+            Task task = state.createTask(requiredString(body, "title"), optString(body, "description"),
+                    optString(body, "priority"), "Backlog", requiredInt(body, "boardId"),
+                    requiredInt(body, "assigneeId"));
+            send(exchange, 200, created(exchange, state, "task", task.getId()));
+        } else if ("POST".equals(method) && "/boards/create".equals(path)) {
+            JsonObject body = body(exchange);
+            Board board = state.createBoard(requiredString(body, "name"), optString(body, "description"));
+            send(exchange, 200, created(exchange, state, "board", board.getId()));
+        } else if ("POST".equals(method) && "/users/create".equals(path)) {
+            JsonObject body = body(exchange);
+            User user = state.createUser(requiredString(body, "fullName"), optString(body, "email"));
+            send(exchange, 200, created(exchange, state, "user", user.getId()));
+        } else if ("DELETE".equals(method) && (m = RUN.matcher(path)).matches()) {
+            JsonObject deleted = new JsonObject();
+            state.deleteRun(m.group(1)).forEach(deleted::addProperty);
+            send(exchange, 200, data(deleted));
+        } else if ("DELETE".equals(method) && (m = RECORD.matcher(path)).matches()) {
+            boolean deleted = state.delete(m.group(1), Integer.parseInt(m.group(2)));
+            send(exchange, deleted ? 200 : 404, deleted ? message("Deleted") : error("Not found"));
+        } else if ("PUT".equals(method) && (m = TASK_UPDATE.matcher(path)).matches()) {
+            int id = Integer.parseInt(m.group(1));
+            JsonObject body = body(exchange);
+            Task current = state.task(id);
+            if (current == null) {
+                send(exchange, 404, error("Task not found"));
+                return;
+            }
+            state.updateTask(id,
+                    body.has("title") ? body.get("title").getAsString() : current.getTitle(),
+                    body.has("description") ? body.get("description").getAsString() : current.getDescription(),
+                    body.has("priority") ? body.get("priority").getAsString() : current.getPriority(),
+                    body.has("status") ? body.get("status").getAsString() : current.getStatus(),
+                    body.has("assigneeId") ? body.get("assigneeId").getAsInt() : current.getAssigneeId());
+            send(exchange, 200, message("Task updated"));
+        } else if ("PUT".equals(method) && (m = TASK_STATUS.matcher(path)).matches()) {
+            Task task = state.updateStatus(Integer.parseInt(m.group(1)), requiredString(body(exchange), "status"));
+            send(exchange, task != null ? 200 : 404, task != null ? message("Status updated") : error("Task not found"));
+        } else {
+            send(exchange, 404, error("Not found"));
+        }
+    }
+
+    private static JsonObject created(HttpExchange exchange, TrackerState state, String kind, int id) {
+        String runId = exchange.getRequestHeaders().getFirst(RUN_HEADER);
+        if (runId != null) {
+            state.tag(kind, id, runId);
+        }
+        JsonObject created = new JsonObject();
+        created.addProperty("id", id);
+        return data(created);
+    }
+
+    private static JsonObject body(HttpExchange exchange) {
+        try {
+            JsonElement body = JsonParser.parseReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+            if (!body.isJsonObject()) {
+                throw new BadRequest("Request body must be a JSON object");
+            }
+            return body.getAsJsonObject();
+        } catch (JsonParseException e) {
+            throw new BadRequest("Malformed JSON body: " + e.getMessage());
+        }
+    }
+
+    private static String requiredString(JsonObject o, String key) {
+        if (!o.has(key) || o.get(key).isJsonNull()) {
+            throw new BadRequest("Missing field " + key);
+        }
+        return o.get(key).getAsString();
+    }
+
+    private static int requiredInt(JsonObject o, String key) {
+        String value = requiredString(o, key);
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new BadRequest("Field " + key + " must be an integer: " + value);
+        }
+    }
+
+    private static String optString(JsonObject o, String key) {
+        return o.has(key) && !o.get(key).isJsonNull() ? o.get(key).getAsString() : "";
+    }
+
+    static JsonObject taskJson(TrackerState state, Task task) {
+        JsonObject o = new JsonObject();
+        o.addProperty("id", task.getId());
+        o.addProperty("title", task.getTitle());
+        o.addProperty("description", task.getDescription());
+        o.addProperty("priority", task.getPriority());
+        o.addProperty("status", task.getStatus());
+        o.addProperty("boardId", task.getBoardId());
+        Board board = state.board(task.getBoardId());
+        o.addProperty("boardName", board != null ? board.getName() : "");
+        User user = state.user(task.getAssigneeId());
+        if (user != null) {
+            o.add("assignee", userJson(user));
+        }
+        return o;
+    }
+
+    private static JsonArray tasksJson(TrackerState state, List<Task> tasks) {
+        JsonArray array = new JsonArray();
+        for (Task task : tasks) {
+            array.add(taskJson(state, task));
+        }
+        return array;
+    }
+
+    private static JsonArray boardsJson(TrackerState state) {
+        JsonArray array = new JsonArray();
+        for (Board board : state.boards()) {
+            JsonObject o = new JsonObject();
+            o.addProperty("id", board.getId());
+            o.addProperty("name", board.getName());
+            o.addProperty("description", board.getDescription());
+            o.addProperty("taskCount", state.boardTasks(board.getId()).size());
+            array.add(o);
+        }
+        return array;
+    }
+
+    private static JsonArray usersJson(TrackerState state) {
+        JsonArray array = new JsonArray();
+        for (User user : state.users()) {
+            array.add(userJson(user));
+        }
+        return array;
+    }
+
+    private static JsonObject userJson(User user) {
+        JsonObject o = new JsonObject();
+        o.addProperty("id", user.getId());
+        o.addProperty("fullName", user.getFullName());
+        o.addProperty("email", user.getEmail());
+        o.addProperty("avatarUrl", "");
+        return o;
+    }
+
+    private static JsonObject data(JsonElement data) {
+        JsonObject o = new JsonObject();
+        o.add("data", data);
+        return o;
+    }
+
+    private static JsonObject message(String message) {
+        JsonObject o = new JsonObject();
+        o.addProperty("message", message);
+        return data(o);
+    }
+
+    private static JsonObject error(String message) {
+        JsonObject o = new JsonObject();
+        o.addProperty("error", message);
+        o.addProperty("message", message);
+        return o;
+    }
+
+    private static void send(HttpExchange exchange, int status, JsonObject body) throws IOException {
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Invalid request from the client, answered with 400
+     */
+    private static final class BadRequest extends RuntimeException {
+        BadRequest(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Lazily loaded fixture page, shared by all stub instances
+     */
+    private static final class FixturePage {
+        static final byte[] BYTES = load();
+
+        private static byte[] load() {
+            try (InputStream in = TaskTrackerStub.class.getResourceAsStream(FIXTURE)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing resource " + FIXTURE);
+                }
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package stub;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory data of the stand-in backend with copy-on-write forking.
+ * {@link #fork()} only shares the maps and marks both sides as shared,
+ * so it costs an allocation; the first write on either side copies the maps.
+ * Records are immutable, so shared maps never observe each other's changes.
+ */
+public final class TrackerState {
+
+    private static final String SEED_RESOURCE = "/stub/seed.json";
+
+    private Map<Integer, Task> tasks;
+    private Map<Integer, Board> boards;
+    private Map<Integer, User> users;
+    // "task:12" -> run id of the data factory run that created it
+    private Map<String, String> owners;
+    private int nextTaskId;
+    private boolean shared;
+
+    private TrackerState(Map<Integer, Task> tasks, Map<Integer, Board> boards, Map<Integer, User> users,
+                         Map<String, String> owners, int nextTaskId) {
+        this.tasks = tasks;
+        this.boards = boards;
+        this.users = users;
+        this.owners = owners;
+        this.nextTaskId = nextTaskId;
+    }
+
+    public static TrackerState empty() {
+        return new TrackerState(new LinkedHashMap<>(), new LinkedHashMap<>(), new LinkedHashMap<>(),
+                new HashMap<>(), 1);
+    }
+
+    /**
+     * Boards, users and tasks bundled as stub/seed.json
+     */
+    public static TrackerState seed() {
+        try (InputStream in = TrackerState.class.getResourceAsStream(SEED_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing " + SEED_RESOURCE);
+            }
+            return load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static TrackerState load(Reader json) {
+        JsonObject root = JsonParser.parseReader(json).getAsJsonObject();
+        TrackerState state = empty();
+        for (JsonElement e : root.getAsJsonArray("boards")) {
+            JsonObject o = e.getAsJsonObject();
+            state.putBoard(new Board(o.get("id").getAsInt(), o.get("name").getAsString(), string(o, "description")));
+        }
+        for (JsonElement e : root.getAsJsonArray("users")) {
+            JsonObject o = e.getAsJsonObject();
+            state.putUser(new User(o.get("id").getAsInt(), o.get("fullName").getAsString(), string(o, "email")));
+        }
+        JsonArray tasks = root.getAsJsonArray("tasks");
+        for (JsonElement e : tasks) {
+            JsonObject o = e.getAsJsonObject();
+            state.createTask(o.get("title").getAsString(), string(o, "description"), o.get("priority").getAsString(),
+                    o.get("status").getAsString(), o.get("boardId").getAsInt(), o.get("assigneeId").getAsInt());
+        }
+        return state;
+    }
+
+    private static String string(JsonObject o, String key) {
+        return o.has(key) && !o.get(key).isJsonNull() ? o.get(key).getAsString() : "";
+    }
+
+    /**
+     * Cheap snapshot: the child starts with this state and diverges on the first write
+     */
+    public synchronized TrackerState fork() {
+        shared = true;
+        TrackerState child = new TrackerState(tasks, boards, users, owners, nextTaskId);
+        child.shared = true;
+        return child;
+    }
+
+    private void ensureOwned() {
+        if (shared) {
+            tasks = new LinkedHashMap<>(tasks);
+            boards = new LinkedHashMap<>(boards);
+            users = new LinkedHashMap<>(users);
+            owners = new HashMap<>(owners);
+            shared = false;
+        }
+    }
+
+    public synchronized List<Task> tasks() {
+        return new ArrayList<>(tasks.values());
+    }
+
+    public synchronized Task task(int id) {
+        return tasks.get(id);
+    }
+
+    public synchronized List<Task> boardTasks(int boardId) {
+        return tasks.values().stream().filter(t -> t.getBoardId() == boardId).collect(Collectors.toList());
+    }
+
+    public synchronized List<Task> userTasks(int userId) {
+        return tasks.values().stream().filter(t -> t.getAssigneeId() == userId).collect(Collectors.toList());
+    }
+
+    public synchronized List<Board> boards() {
+        return new ArrayList<>(boards.values());
+    }
+
+    public synchronized Board board(int id) {
+        return boards.get(id);
+    }
+
+    public synchronized List<User> users() {
+        return new ArrayList<>(users.values());
+    }
+
+    public synchronized User user(int id) {
+        return users.get(id);
+    }
+
+    public synchronized Task createTask(String title, String description, String priority, String status,
+                                        int boardId, int assigneeId) {
+        ensureOwned();
+        Task task = new Task(nextTaskId++, title, description, priority, status, boardId, assigneeId);
+        tasks.put(task.getId(), task);
+        return task;
+    }
+
+    public synchronized Task updateTask(int id, String title, String description, String priority, String status,
+                                        int assigneeId) {
+        Task task = tasks.get(id);
+        if (task == null) {
+            return null;
+        }
+        ensureOwned();
+        Task updated = task.withFields(title, description, priority, status, assigneeId);
+        tasks.put(id, updated);
+        return updated;
+    }
+
+    public synchronized Task updateStatus(int id, String status) {
+        Task task = tasks.get(id);
+        if (task == null) {
+            return null;
+        }
+        ensureOwned();
+        Task updated = task.withStatus(status);
+        tasks.put(id, updated);
+        return updated;
+    }
+
+    public synchronized void putBoard(Board board) {
+        ensureOwned();
+        boards.put(board.getId(), board);
+    }
+
+    public synchronized void putUser(User user) {
+        ensureOwned();
+        users.put(user.getId(), user);
+    }
+
+    public synchronized Board createBoard(String name, String description) {
+        ensureOwned();
+        Board board = new Board(nextId(boards.keySet()), name, description);
+        boards.put(board.getId(), board);
+        return board;
+    }
+
+    public synchronized User createUser(String fullName, String email) {
+        ensureOwned();
+        User user = new User(nextId(users.keySet()), fullName, email);
+        users.put(user.getId(), user);
+        return user;
+    }
+
+    private static int nextId(Iterable<Integer> ids) {
+        int max = 0;
+        for (int id : ids) {
+            max = Math.max(max, id);
+        }
+        return max + 1;
+    }
+
+    /**
+     * Deletes a record ("task", "board" or "user"); false if there was none with the id
+     */
+    public synchronized boolean delete(String kind, int id) {
+        if (!records(kind).containsKey(id)) {
+            return false;
+        }
+        // Copying replaces the maps, so look the map up again afterwards
+        ensureOwned();
+        records(kind).remove(id);
+        owners.remove(kind + ":" + id);
+        return true;
+    }
+
+    private Map<Integer, ?> records(String kind) {
+        switch (kind) {
+            case "task":
+                return tasks;
+            case "board":
+                return boards;
+            case "user":
+                return users;
+            default:
+                throw new IllegalArgumentException("Unknown record kind: " + kind);
+        }
+    }
+
+    /**
+     * Tags a created record ("task", "board" or "user") with the run that created it
+     */
+    public synchronized void tag(String kind, int id, String runId) {
+        ensureOwned();
+        owners.put(kind + ":" + id, runId);
+    }
+
+    /**
+     * Deletes every record tagged with the run id; returns the number of deleted records per kind
+     */
+    public synchronized Map<String, Integer> deleteRun(String runId) {
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        deleted.put("tasks", 0);
+        deleted.put("boards", 0);
+        deleted.put("users", 0);
+        if (!owners.containsValue(runId)) {
+            return deleted;
+        }
+        ensureOwned();
+        Iterator<Map.Entry<String, String>> it = owners.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, String> entry = it.next();
+            if (!entry.getValue().equals(runId)) {
+                continue;
+            }
+            String[] key = entry.getKey().split(":");
+            int id = Integer.parseInt(key[1]);
+            boolean removed;
+            switch (key[0]) {
+                case "task":
+                    removed = tasks.remove(id) != null;
+                    deleted.merge("tasks", removed ? 1 : 0, Integer::sum);
+                    break;
+                case "board":
+                    removed = boards.remove(id) != null;
+                    deleted.merge("boards", removed ? 1 : 0, Integer::sum);
+                    break;
+                default:
+                    removed = users.remove(id) != null;
+                    deleted.merge("users", removed ? 1 : 0, Integer::sum);
+                    break;
+            }
+            it.remove();
+        }
+        return deleted;
+    }
+}
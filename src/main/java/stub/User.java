@@ -0,0 +1,28 @@
+package stub;
+
+/**
+ * Immutable user (assignee) record of the stand-in backend
+ */
+public final class User {
+    private final int id;
+    private final String fullName;
+    private final String email;
+
+    public User(int id, String fullName, String email) {
+        this.id = id;
+        this.fullName = fullName;
+        this.email = email;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
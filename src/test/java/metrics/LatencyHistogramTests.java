@@ -0,0 +1,78 @@
+package metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bucketing and percentile accuracy of the latency histogram
+ */
+@DisplayName("Гистограмма латентности: бакеты и перцентили")
+public class LatencyHistogramTests {
+
+    // 16 sub-buckets per power of two
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 16;
+
+    @Test
+    @DisplayName("Пустая гистограмма возвращает нули")
+    void testEmptyHistogram() {
+        LatencyHistogram h = new LatencyHistogram();
+
+        assertEquals(0, h.percentile(50));
+        assertEquals(0, h.percentile(99));
+        assertEquals(0, h.getMeanMicros());
+    }
+
+    @Test
+    @DisplayName("Значение попадает в бакет, верхняя граница которого не меньше значения и не дальше 1/16")
+    void testBucketBoundsContainValue() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextInt(1 << random.nextInt(31));
+            long upper = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(value));
+            assertTrue(upper >= value, value + " above bucket bound " + upper);
+            assertTrue(upper - value <= Math.max(0, value * MAX_RELATIVE_ERROR), value + " -> " + upper);
+        }
+    }
+
+    @Test
+    @DisplayName("Малые значения хранятся точно, перцентили равномерного ряда — в пределах погрешности")
+    void testPercentiles() {
+        LatencyHistogram small = new LatencyHistogram();
+        for (long v = 1; v <= 10; v++) {
+            small.record(v);
+        }
+        assertEquals(5, small.percentile(50));
+        assertEquals(10, small.percentile(100));
+
+        LatencyHistogram h = new LatencyHistogram();
+        for (long v = 1; v <= 10_000; v++) {
+            h.record(v);
+        }
+        assertEquals(5_000, h.percentile(50), 5_000 * MAX_RELATIVE_ERROR);
+        assertEquals(9_900, h.percentile(99), 9_900 * MAX_RELATIVE_ERROR);
+        assertEquals(10_000, h.percentile(100));
+        assertEquals(5_000.5, h.getMeanMicros(), 1e-9);
+        assertEquals(10_000, h.getMaxMicros());
+    }
+
+    @Test
+    @DisplayName("Наносекунды переводятся в микросекунды, слияние суммирует счётчики")
+    void testRecordNanosAndAdd() {
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.recordNanos(2_000);
+        b.recordNanos(8_000);
+        b.recordNanos(-5);
+
+        a.add(b);
+
+        assertEquals(3, a.getCount());
+        assertEquals(8, a.getMaxMicros());
+        assertEquals(0, a.percentile(1));
+        assertEquals(8, a.percentile(100));
+    }
+}
@@ -0,0 +1,35 @@
+package pages;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Column name and alias mapping used by the board queries
+ */
+@DisplayName("Снимок доски: определение колонки по названию")
+public class BoardSnapshotTests {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @CsvSource({
+            "To Do, TODO",
+            "todo, TODO",
+            "TO_DO, TODO",
+            "Backlog, TODO",
+            "column-todo, TODO",
+            "In Progress, IN_PROGRESS",
+            "in-progress, IN_PROGRESS",
+            "InProgress, IN_PROGRESS",
+            "column-inprogress, IN_PROGRESS",
+            "Done, DONE",
+            "column-done, DONE",
+            "Review, OTHER",
+            "'', OTHER"
+    })
+    @DisplayName("Название или псевдоним колонки сопоставляется с её видом")
+    void testKindOf(String name, BoardSnapshot.ColumnKind kind) {
+        assertEquals(kind, BoardSnapshot.kindOf(name));
+    }
+}
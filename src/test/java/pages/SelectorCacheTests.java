@@ -0,0 +1,54 @@
+package pages;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Splitting of selector lists and which lists the cache may resolve
+ */
+@DisplayName("Кэш селекторов: разбор списков и пометка альтернатив")
+public class SelectorCacheTests {
+
+    private static final String EQUIVALENT = ".board, .kanban-board, [data-testid='board']";
+    private static final String DIFFERENT = ":has-text('Задачи не найдены'), :has-text('Нет задач')";
+
+    static class Base {
+        @Alternatives
+        static final String INHERITED = ".column, .board-column";
+    }
+
+    static class Page extends Base {
+        @Alternatives
+        static final String MARKED = EQUIVALENT;
+        static final String UNMARKED = DIFFERENT;
+    }
+
+    @Test
+    @DisplayName("Список делится только по запятым верхнего уровня")
+    void testSplitKeepsCommasInsideQuotesAndBrackets() {
+        assertEquals(List.of(".board", ".kanban-board", "[data-testid='board']"), SelectorCache.split(EQUIVALENT));
+        assertEquals(List.of("button:has-text('Да, удалить')", "[data-x=\"a,b\"]", ":is(.a, .b) > span"),
+                SelectorCache.split("button:has-text('Да, удалить'), [data-x=\"a,b\"], :is(.a, .b) > span"));
+        assertEquals(List.of(".single"), SelectorCache.split(" .single "));
+    }
+
+    @Test
+    @DisplayName("Кэшируются только списки, помеченные @Alternatives, в том числе в базовом классе")
+    void testOnlyMarkedListsAreCached() {
+        assertTrue(SelectorCache.isMarked(Page.class, EQUIVALENT));
+        assertTrue(SelectorCache.isMarked(Page.class, Base.INHERITED));
+        assertFalse(SelectorCache.isMarked(Page.class, DIFFERENT));
+        assertFalse(SelectorCache.isMarked(Base.class, EQUIVALENT));
+    }
+
+    @Test
+    @DisplayName("Непомеченный список возвращается без обращения к странице")
+    void testUnmarkedListIsUsedAsOneLocator() {
+        // No page: an unmarked list must not be probed
+        assertEquals(DIFFERENT, SelectorCache.resolve(null, Page.class, DIFFERENT));
+    }
+}
@@ -0,0 +1,109 @@
+package stub;
+
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HTTP contract of the stand-in backend: sessions and request validation
+ */
+@DisplayName("Заглушка API: сессии и валидация запросов")
+public class TaskTrackerStubTests {
+
+    private static final HttpClient HTTP = HttpClient.newHttpClient();
+    private static TaskTrackerStub stub;
+
+    @BeforeAll
+    static void start() {
+        stub = TaskTrackerStub.start(TrackerState.seed());
+    }
+
+    @AfterAll
+    static void stop() {
+        stub.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"title\": \"Без доски\", \"assigneeId\": 1}",
+            "{\"title\": \"Без исполнителя\", \"boardId\": 1}",
+            "{\"boardId\": 1, \"assigneeId\": 1}",
+            "{\"title\": \"Неверная доска\", \"boardId\": \"первая\", \"assigneeId\": 1}",
+            "[]",
+            "{не json"
+    })
+    @DisplayName("Неполный или некорректный запрос на создание задачи отклоняется с кодом 400")
+    void testCreateTaskRejectsInvalidBody(String body) throws Exception {
+        HttpResponse<String> response = post("/tasks/create", body, null);
+
+        assertEquals(400, response.statusCode(), response.body());
+    }
+
+    @Test
+    @DisplayName("Задача, созданная в сессии, не видна другим сессиям")
+    void testSessionsAreIsolated() throws Exception {
+        String session = stub.fork();
+        try {
+            HttpResponse<String> created = post("/tasks/create",
+                    "{\"title\": \"Задача сессии\", \"boardId\": 1, \"assigneeId\": 1}", session);
+            assertEquals(200, created.statusCode(), created.body());
+
+            assertTrue(get("/tasks", session).body().contains("Задача сессии"));
+            assertFalse(get("/tasks", null).body().contains("Задача сессии"));
+        } finally {
+            stub.release(session);
+        }
+    }
+
+    @Test
+    @DisplayName("Созданная задача удаляется по id, повторное удаление возвращает 404")
+    void testDeleteTask() throws Exception {
+        String session = stub.fork();
+        try {
+            HttpResponse<String> created = post("/tasks/create",
+                    "{\"title\": \"Удаляемая задача\", \"boardId\": 1, \"assigneeId\": 1}", session);
+            String id = JsonParser.parseString(created.body()).getAsJsonObject()
+                    .getAsJsonObject("data").get("id").getAsString();
+
+            assertEquals(200, delete("/tasks/" + id, session).statusCode());
+            assertEquals(404, get("/tasks/" + id, session).statusCode());
+            assertEquals(404, delete("/tasks/" + id, session).statusCode());
+        } finally {
+            stub.release(session);
+        }
+    }
+
+    private static HttpResponse<String> post(String path, String body, String session)
+            throws IOException, InterruptedException {
+        return HTTP.send(request(path, session).POST(HttpRequest.BodyPublishers.ofString(body))
+                .header("Content-Type", "application/json").build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> get(String path, String session) throws IOException, InterruptedException {
+        return HTTP.send(request(path, session).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpResponse<String> delete(String path, String session) throws IOException, InterruptedException {
+        return HTTP.send(request(path, session).DELETE().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpRequest.Builder request(String path, String session) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(stub.url() + "/api/v1" + path));
+        if (session != null) {
+            request.header(TaskTrackerStub.SESSION_HEADER, session);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,86 @@
+package stub;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Copy-on-write forks and run cleanup of the stand-in backend's data
+ */
+@DisplayName("Данные заглушки: форки и очистка")
+public class TrackerStateTests {
+
+    private static final String DATA = "{\"boards\": [{\"id\": 1, \"name\": \"Доска\"}],"
+            + " \"users\": [{\"id\": 1, \"fullName\": \"Илья Романов\"}],"
+            + " \"tasks\": [{\"title\": \"Первая\", \"priority\": \"Low\", \"status\": \"Backlog\", \"boardId\": 1, \"assigneeId\": 1}]}";
+
+    @Test
+    @DisplayName("Запись в форк не видна родителю")
+    void testForkWriteIsNotVisibleInParent() {
+        TrackerState parent = TrackerState.load(new StringReader(DATA));
+        TrackerState child = parent.fork();
+
+        child.createTask("Вторая", "", "High", "Backlog", 1, 1);
+        child.updateStatus(1, "Done");
+
+        assertEquals(1, parent.tasks().size());
+        assertEquals("Backlog", parent.task(1).getStatus());
+        assertEquals(2, child.tasks().size());
+        assertEquals("Done", child.task(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("Запись в родителя не видна уже созданному форку")
+    void testParentWriteIsNotVisibleInFork() {
+        TrackerState parent = TrackerState.load(new StringReader(DATA));
+        TrackerState child = parent.fork();
+
+        parent.createBoard("Новая доска", "");
+        parent.updateStatus(1, "InProgress");
+
+        assertEquals(1, child.boards().size());
+        assertEquals("Backlog", child.task(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("Форки одного родителя не видят изменений друг друга и продолжают нумерацию")
+    void testSiblingForksAreIndependent() {
+        TrackerState parent = TrackerState.load(new StringReader(DATA));
+        TrackerState first = parent.fork();
+        TrackerState second = parent.fork();
+
+        Task created = first.createTask("Из первого", "", "Low", "Backlog", 1, 1);
+        second.createUser("Мария Иванова", "m.ivanova@example.com");
+
+        assertEquals(2, created.getId());
+        assertNull(second.task(created.getId()));
+        assertEquals(1, first.users().size());
+        assertEquals(2, second.users().size());
+        assertEquals(2, second.createTask("Из второго", "", "Low", "Backlog", 1, 1).getId());
+    }
+
+    @Test
+    @DisplayName("Удаление прогона удаляет только записи этого прогона")
+    void testDeleteRunRemovesOnlyTaggedRecords() {
+        TrackerState state = TrackerState.load(new StringReader(DATA));
+        Board board = state.createBoard("Доска прогона", "");
+        state.tag("board", board.getId(), "run-1");
+        Task task = state.createTask("Задача прогона", "", "Low", "Backlog", board.getId(), 1);
+        state.tag("task", task.getId(), "run-1");
+        Task other = state.createTask("Чужая задача", "", "Low", "Backlog", 1, 1);
+        state.tag("task", other.getId(), "run-2");
+        TrackerState fork = state.fork();
+
+        Map<String, Integer> deleted = state.deleteRun("run-1");
+
+        assertEquals(Map.of("tasks", 1, "boards", 1, "users", 0), deleted);
+        assertNull(state.task(task.getId()));
+        assertNotNull(state.task(other.getId()));
+        assertNotNull(fork.task(task.getId()), "Форк, снятый до удаления, сохраняет данные");
+        assertEquals(Map.of("tasks", 0, "boards", 0, "users", 0), state.deleteRun("run-1"));
+    }
+}
@@ -2,21 +2,37 @@ package tests;
 
 import org.junit.jupiter.api.*;
 import pages.BoardPage;
+import pages.BoardSnapshot;
 import pages.IssuesPage;
 import pages.ProjectsPage;
 import pages.TaskCardModal;
+import stub.Task;
+import stub.TrackerState;
 import utils.BaseTest;
+import utils.StubBackend;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Test cases for board navigation functionality
  * Based on test cases 14-17 from requirements
  */
 @DisplayName("Переход на доску проекта")
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class BoardNavigationTests extends BaseTest {
 
+    @BeforeEach
+    void setUp() {
+        if (hasDataApi()) {
+            // Board 1 gets a known In Progress task seeded over the API
+            data().createTaskInStatus("Редизайн фильтров доски", "Редизайн карточки товара",
+                    "High", "Ольга Новикова", "InProgress");
+        }
+    }
+
     /**
      * Test Case 15: Navigate to board from projects page
      */
@@ -27,21 +43,18 @@ public class BoardNavigationTests extends BaseTest {
         ProjectsPage projectsPage = new ProjectsPage(page);
         projectsPage.open();
 
-        page.waitForTimeout(1000);
-
         // Try to navigate to a project board
         if (projectsPage.getProjectCount() > 0) {
             BoardPage boardPage = projectsPage.goToProjectBoard("Рефакторинг API");
 
-            page.waitForTimeout(1000);
-
             // Verify board is displayed
             assertTrue(boardPage.isBoardVisible(), "Доска проекта должна отображаться");
 
             // Verify Kanban columns exist
-            assertTrue(boardPage.hasTodoColumn(), "Колонка To Do должна присутствовать");
-            assertTrue(boardPage.hasInProgressColumn(), "Колонка In Progress должна присутствовать");
-            assertTrue(boardPage.hasDoneColumn(), "Колонка Done должна присутствовать");
+            BoardSnapshot snapshot = boardPage.snapshot();
+            assertTrue(snapshot.hasColumn(BoardSnapshot.ColumnKind.TODO), "Колонка To Do должна присутствовать");
+            assertTrue(snapshot.hasColumn(BoardSnapshot.ColumnKind.IN_PROGRESS), "Колонка In Progress должна присутствовать");
+            assertTrue(snapshot.hasColumn(BoardSnapshot.ColumnKind.DONE), "Колонка Done должна присутствовать");
         }
     }
 
@@ -55,17 +68,13 @@ public class BoardNavigationTests extends BaseTest {
         IssuesPage issuesPage = new IssuesPage(page);
         issuesPage.open();
 
-        page.waitForTimeout(1000);
-
         if (issuesPage.getTaskCount() > 0) {
             // Search for task from specific project
             issuesPage.searchTask("Редизайн");
-            page.waitForTimeout(500);
 
             if (issuesPage.getTaskCount() > 0) {
                 // Open task card
                 issuesPage.clickOnTask("Редизайн");
-                page.waitForTimeout(500);
 
                 TaskCardModal taskCard = new TaskCardModal(page);
 
@@ -73,8 +82,6 @@ public class BoardNavigationTests extends BaseTest {
                     // Navigate to board
                     BoardPage boardPage = taskCard.clickGoToBoard();
 
-                    page.waitForTimeout(1000);
-
                     // Verify on board page
                     String currentUrl = page.url();
                     assertTrue(currentUrl.contains("/board"),
@@ -95,28 +102,21 @@ public class BoardNavigationTests extends BaseTest {
     @DisplayName("TC17: Проверка соответствия задач статусам на доске")
     void testTasksMatchColumnStatus() {
         // Navigate directly to a board
-        page.navigate(BASE_URL + "/board/1");
-        page.waitForLoadState();
-        page.waitForTimeout(1000);
-
         BoardPage boardPage = new BoardPage(page);
+        boardPage.open("1");
 
         if (boardPage.isBoardVisible()) {
             // Verify board has all three columns
-            assertTrue(boardPage.hasAllColumns(),
+            BoardSnapshot snapshot = boardPage.snapshot();
+            assertTrue(snapshot.hasAllColumns(),
                     "Доска должна иметь все три колонки: To Do, In Progress, Done");
 
             // Get task counts from each column
-            int totalTasks = boardPage.getTotalTaskCount();
+            int totalTasks = snapshot.getTotalCards();
 
             if (totalTasks > 0) {
                 // Open a task from a specific column and verify its status
-                page.locator(".column:has-text('In Progress') .task-card, " +
-                        "[data-testid='column-inprogress'] .task-card").first().click();
-
-                page.waitForTimeout(500);
-
-                TaskCardModal taskCard = new TaskCardModal(page);
+                TaskCardModal taskCard = boardPage.openTaskCardInColumn("In Progress");
 
                 if (taskCard.isModalVisible()) {
                     String status = taskCard.getStatus();
@@ -137,11 +137,8 @@ public class BoardNavigationTests extends BaseTest {
     @DisplayName("Прямой переход на доску по URL")
     void testDirectBoardNavigation() {
         // Navigate directly to board
-        page.navigate(BASE_URL + "/board/1");
-        page.waitForLoadState();
-        page.waitForTimeout(1000);
-
         BoardPage boardPage = new BoardPage(page);
+        boardPage.open("1");
 
         // Verify board is loaded
         String currentUrl = page.url();
@@ -160,11 +157,8 @@ public class BoardNavigationTests extends BaseTest {
     @DisplayName("Доска отображает только задачи проекта")
     void testBoardShowsOnlyProjectTasks() {
         // This test verifies that tasks from other projects are not shown
-        page.navigate(BASE_URL + "/board/1");
-        page.waitForLoadState();
-        page.waitForTimeout(1000);
-
         BoardPage boardPage = new BoardPage(page);
+        boardPage.open("1");
 
         if (boardPage.isBoardVisible()) {
             String boardTitle = boardPage.getBoardTitle();
@@ -177,4 +171,36 @@ public class BoardNavigationTests extends BaseTest {
                     "Доска должна отображать только задачи текущего проекта");
         }
     }
+
+    /**
+     * Test: Board snapshot of the fixture board matches the stub's tasks column by column
+     */
+    @Test
+    @Order(6)
+    @DisplayName("Снимок доски совпадает с задачами доски в заглушке")
+    void testSnapshotMatchesFixtureBoard() {
+        assumeTrue(StubBackend.isEnabled(), "Фикстурная доска доступна только с -Dstub=true");
+
+        BoardPage boardPage = new BoardPage(page);
+        boardPage.open("1");
+        BoardSnapshot snapshot = boardPage.snapshot();
+
+        List<BoardSnapshot.ColumnKind> kinds = snapshot.getColumns().stream()
+                .map(BoardSnapshot.Column::getKind)
+                .collect(Collectors.toList());
+        assertEquals(List.of(BoardSnapshot.ColumnKind.TODO, BoardSnapshot.ColumnKind.IN_PROGRESS,
+                BoardSnapshot.ColumnKind.DONE), kinds, "Доска должна состоять из колонок To Do, In Progress, Done");
+
+        // Seed tasks of board 1 plus the In Progress task created in setUp
+        List<Task> tasks = TrackerState.seed().boardTasks(1);
+        for (BoardSnapshot.Column column : snapshot.getColumns()) {
+            long expected = tasks.stream()
+                    .filter(t -> BoardSnapshot.kindOf(t.getStatus()) == column.getKind())
+                    .count() + (column.getKind() == BoardSnapshot.ColumnKind.IN_PROGRESS ? 1 : 0);
+            assertEquals(expected, column.getCards().size(), "Число карточек в колонке " + column.getName());
+        }
+        assertEquals(tasks.size() + 1, snapshot.getTotalCards(), "Все карточки доски должны попасть в снимок");
+        assertTrue(snapshot.isTaskInColumn("Редизайн фильтров доски", "In Progress"),
+                "Задача, переведённая в In Progress, должна быть в этой колонке");
+    }
 }
@@ -12,7 +12,6 @@ import static org.junit.jupiter.api.Assertions.*;
  * Based on test cases 1-6 from requirements
  */
 @DisplayName("Создание задачи")
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class CreateTaskTests extends BaseTest {
 
     private IssuesPage issuesPage;
@@ -53,9 +52,6 @@ public class CreateTaskTests extends BaseTest {
         // Click create
         createModal.clickCreate();
 
-        // Wait for modal to close and verify task creation
-        page.waitForTimeout(1000);
-
         // Verify task was created (either redirect or task visible in list)
         String currentUrl = page.url();
         assertTrue(
@@ -87,8 +83,6 @@ public class CreateTaskTests extends BaseTest {
         // Create task
         createModal.clickCreate();
 
-        page.waitForTimeout(1000);
-
         // Verify task was created without errors
         assertFalse(createModal.isModalVisible(), "Модальное окно должно закрыться после создания");
     }
@@ -146,8 +140,6 @@ public class CreateTaskTests extends BaseTest {
 
         createModal.clickCreate();
 
-        page.waitForTimeout(1000);
-
         // Verify no errors occurred
         assertFalse(createModal.isModalVisible(), "Задача должна быть создана без ошибок");
     }
@@ -176,8 +168,6 @@ public class CreateTaskTests extends BaseTest {
         // Click and verify task creation
         createModal.clickCreate();
 
-        page.waitForTimeout(1000);
-
         assertFalse(createModal.isModalVisible(), "Клик по кнопке должен привести к созданию задачи");
     }
 }
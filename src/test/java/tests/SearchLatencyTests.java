@@ -0,0 +1,69 @@
+package tests;
+
+import com.google.gson.JsonObject;
+import metrics.SearchLatency;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Isolated;
+import pages.IssuesPage;
+import utils.BaseTest;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Search responsiveness at keystroke level (see {@link SearchLatency}); results go to target/reports/search-latency.json.
+ * Tagged "perf" and excluded from the default run: mvn test -Dgroups=perf -DexcludedGroups=
+ * Isolated: timings taken next to other tests' browsers would measure CPU contention, not the search.
+ */
+@Tag("perf")
+@Isolated
+@DisplayName("Отзывчивость поиска")
+public class SearchLatencyTests extends BaseTest {
+
+    private static final String[] QUERIES = {"Реализация", "Оптимизация", "Редизайн"};
+
+    private IssuesPage issuesPage;
+
+    @BeforeEach
+    void setUp() {
+        issuesPage = new IssuesPage(page);
+        issuesPage.open();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Время до результатов после каждого нажатия клавиши")
+    void testKeystrokeLatency(TestReporter reporter) {
+        for (int repeat = 0; repeat < profile.getInt("searchRepeats", 3); repeat++) {
+            for (String query : QUERIES) {
+                double[] stableMs = issuesPage.measureSearchKeystrokes(query);
+                reporter.publishEntry("keystrokes." + query, Arrays.toString(stableMs));
+            }
+        }
+        double p99 = SearchLatency.keystrokeP99Ms();
+        double budget = profile.getDouble("budget.search.keystrokeP99Ms", Double.NaN);
+        // Measured and reported either way; only a configured budget can fail the test
+        assumeTrue(!Double.isNaN(budget), "Бюджет budget.search.keystrokeP99Ms не задан в профиле");
+        assertFalse(p99 > budget, String.format("p99 времени до результатов %.1f мс превышает бюджет %.1f мс", p99, budget));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Debounce при непрерывном наборе запроса")
+    void testTypingBurstDebounce(TestReporter reporter) {
+        double keyDelay = profile.getDouble("searchKeyDelay", 80);
+        for (String query : QUERIES) {
+            issuesPage.measureSearchBurst(query, keyDelay);
+        }
+        JsonObject report = SearchLatency.report();
+        reporter.publishEntry("searchLatency", report.toString());
+        JsonObject debounce = report.getAsJsonObject("debounce");
+        assertNotNull(debounce, "Набор запросов должен быть измерен");
+        double updates = debounce.get("updatesPerKeystroke").getAsDouble();
+        double requests = debounce.get("requestsPerKeystroke").getAsDouble();
+        assertTrue(updates < 1 || requests <= 1, String.format(
+                "Поиск не объединяет нажатия: %.2f обновлений и %.2f запросов на нажатие", updates, requests));
+    }
+}
@@ -3,6 +3,7 @@ package tests;
 import org.junit.jupiter.api.*;
 import pages.IssuesPage;
 import utils.BaseTest;
+import utils.ReuseContext;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -10,8 +11,8 @@ import static org.junit.jupiter.api.Assertions.*;
  * Test cases for task search functionality
  * Based on test cases 7-13 from requirements
  */
+@ReuseContext
 @DisplayName("Поиск задачи")
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class SearchTaskTests extends BaseTest {
 
     private IssuesPage issuesPage;
@@ -32,8 +33,6 @@ public class SearchTaskTests extends BaseTest {
         // Search for task
         issuesPage.searchTask("темной");
 
-        page.waitForTimeout(1000);
-
         // Verify search results
         int taskCount = issuesPage.getTaskCount();
         if (taskCount > 0) {
@@ -52,8 +51,6 @@ public class SearchTaskTests extends BaseTest {
         issuesPage.searchTask("Оптимизация");
         issuesPage.selectStatusFilter("Done");
 
-        page.waitForTimeout(1000);
-
         // Verify filtered results
         int taskCount = issuesPage.getTaskCount();
         // Either tasks are shown matching criteria or no tasks message
@@ -70,8 +67,6 @@ public class SearchTaskTests extends BaseTest {
         issuesPage.searchTask("загрузка");
         issuesPage.selectBoardFilter("Оптимизация производительности");
 
-        page.waitForTimeout(1000);
-
         // Verify filtered results
         int taskCount = issuesPage.getTaskCount();
         assertTrue(taskCount >= 0, "Фильтрация по доске должна работать корректно");
@@ -88,8 +83,6 @@ public class SearchTaskTests extends BaseTest {
         issuesPage.selectStatusFilter("InProgress");
         issuesPage.selectBoardFilter("Редизайн карточки товара");
 
-        page.waitForTimeout(1000);
-
         // Verify results or no tasks message
         int taskCount = issuesPage.getTaskCount();
         if (taskCount == 0) {
@@ -107,8 +100,6 @@ public class SearchTaskTests extends BaseTest {
     void testSearchWithNoResults() {
         issuesPage.searchTask("Несуществующая задача xyz123");
 
-        page.waitForTimeout(1000);
-
         // Verify no results or empty list
         int taskCount = issuesPage.getTaskCount();
         assertTrue(taskCount == 0 || issuesPage.isNoTasksMessageVisible(),
@@ -126,15 +117,11 @@ public class SearchTaskTests extends BaseTest {
         issuesPage.searchTask("Оптимизация");
         issuesPage.selectStatusFilter("Backlog");
 
-        page.waitForTimeout(500);
-
         int filteredCount = issuesPage.getTaskCount();
 
         // Reset filters
         issuesPage.resetFilters();
 
-        page.waitForTimeout(1000);
-
         int resetCount = issuesPage.getTaskCount();
 
         // After reset, should show all tasks (more or equal than filtered)
@@ -152,16 +139,12 @@ public class SearchTaskTests extends BaseTest {
         // Search in uppercase
         issuesPage.searchTask("ОПТИМИЗАЦИЯ");
 
-        page.waitForTimeout(1000);
-
         int uppercaseResults = issuesPage.getTaskCount();
 
         // Search in mixed case
         issuesPage.clearSearch();
         issuesPage.searchTask("Оптимизация");
 
-        page.waitForTimeout(1000);
-
         int mixedCaseResults = issuesPage.getTaskCount();
 
         // Results should be the same regardless of case
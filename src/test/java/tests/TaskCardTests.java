@@ -13,13 +13,17 @@ import static org.junit.jupiter.api.Assertions.*;
  * Based on test cases 18-21 from requirements
  */
 @DisplayName("Открытие карточки задачи")
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class TaskCardTests extends BaseTest {
 
     private IssuesPage issuesPage;
 
     @BeforeEach
     void setUp() {
+        if (hasDataApi()) {
+            // Known task on board 1 seeded over the API instead of the create-task UI
+            data().createTaskInStatus("Реализация фильтра по исполнителю", "Редизайн карточки товара",
+                    "Medium", "Илья Романов", "InProgress");
+        }
         issuesPage = new IssuesPage(page);
         issuesPage.open();
     }
@@ -31,23 +35,16 @@ public class TaskCardTests extends BaseTest {
     @Order(1)
     @DisplayName("TC18: Открытие карточки задачи из списка задач")
     void testOpenTaskCardFromList() {
-        // Wait for tasks to load
-        page.waitForTimeout(1000);
-
         // Get first available task
         int taskCount = issuesPage.getTaskCount();
         if (taskCount > 0) {
             // Search for a known task
             issuesPage.searchTask("Реализация");
 
-            page.waitForTimeout(500);
-
             if (issuesPage.getTaskCount() > 0) {
                 // Click on task to open modal
                 issuesPage.clickOnTask("Реализация");
 
-                page.waitForTimeout(500);
-
                 TaskCardModal taskCard = new TaskCardModal(page);
 
                 // Verify modal is visible
@@ -70,24 +67,18 @@ public class TaskCardTests extends BaseTest {
     @Order(2)
     @DisplayName("TC19: Переход на доску проекта из карточки задачи")
     void testNavigateToBoardFromTaskCard() {
-        page.waitForTimeout(1000);
-
         if (issuesPage.getTaskCount() > 0) {
             // Open any task
             issuesPage.searchTask("Реализация");
-            page.waitForTimeout(500);
 
             if (issuesPage.getTaskCount() > 0) {
                 issuesPage.clickOnTask("Реализация");
-                page.waitForTimeout(500);
 
                 TaskCardModal taskCard = new TaskCardModal(page);
 
                 if (taskCard.isGoToBoardButtonVisible()) {
                     BoardPage boardPage = taskCard.clickGoToBoard();
 
-                    page.waitForTimeout(1000);
-
                     // Verify navigation to board
                     String currentUrl = page.url();
                     assertTrue(currentUrl.contains("/board"),
@@ -105,18 +96,13 @@ public class TaskCardTests extends BaseTest {
     @DisplayName("TC20: Открытие карточки задачи с доски проекта")
     void testOpenTaskCardFromBoard() {
         // Navigate to board page
-        page.navigate(BASE_URL + "/board/1");
-        page.waitForLoadState();
-        page.waitForTimeout(1000);
-
         BoardPage boardPage = new BoardPage(page);
+        boardPage.open("1");
 
         if (boardPage.isBoardVisible() && boardPage.getTotalTaskCount() > 0) {
             // Get first visible task and click on it
             page.locator(".task-card, .issue-card, [data-testid='task-card']").first().click();
 
-            page.waitForTimeout(500);
-
             TaskCardModal taskCard = new TaskCardModal(page);
 
             // Verify modal is visible
@@ -137,16 +123,12 @@ public class TaskCardTests extends BaseTest {
     @DisplayName("TC21: Редактирование задачи и проверка отображения изменений")
     void testEditTaskAndVerifyChanges() {
         // Navigate to board
-        page.navigate(BASE_URL + "/board/1");
-        page.waitForLoadState();
-        page.waitForTimeout(1000);
-
         BoardPage boardPage = new BoardPage(page);
+        boardPage.open("1");
 
         if (boardPage.isBoardVisible() && boardPage.getTotalTaskCount() > 0) {
             // Find a task in To Do column
             page.locator(".task-card, .issue-card").first().click();
-            page.waitForTimeout(500);
 
             TaskCardModal taskCard = new TaskCardModal(page);
 
@@ -160,8 +142,6 @@ public class TaskCardTests extends BaseTest {
                 // Click update
                 taskCard.clickUpdate();
 
-                page.waitForTimeout(1000);
-
                 // Verify the task moved to appropriate column
                 // This would require additional verification based on actual UI behavior
                 assertTrue(true, "Изменения должны быть сохранены без ошибок");
@@ -1,55 +1,215 @@
 package utils;
 
 import com.microsoft.playwright.*;
+import config.RunProfile;
+import data.TestDataFactory;
+import impact.ImpactRecorder;
+import metrics.NetworkStats;
+import metrics.PageMetrics;
+import metrics.WebPerf;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import stub.TaskTrackerStub;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
- * Base test class with Playwright setup and teardown
+ * Base test class with Playwright setup and teardown.
+ * Browsers come from a thread-confined {@link BrowserPool}, so test classes
+ * and methods can run in parallel; each test still gets a fresh context.
+ * Browser, timeouts, viewport and target URL come from the {@link RunProfile};
+ * network traffic can be recorded to and replayed from HAR files ({@link HarArchive})
+ * and API calls can be served by a per-test fork of the stand-in backend ({@link StubBackend}).
+ * Failed tests leave a Playwright trace ({@link TraceRecorder}).
+ * Requests no assertion depends on can be blocked per profile ({@link ResourcePolicy}).
+ * With webPerf enabled, page opens are measured ({@link WebPerf}) and checked against the profile's budgets;
+ * with networkStats enabled, so are the requests and bytes of the test and its page-object operations ({@link NetworkStats}).
+ * Read-only classes marked {@link ReuseContext} share a warm context per thread that is reset between tests.
+ * {@link MatrixRunner} runs the same tests on several browsers at once; the browser then comes from the execution.
  */
 public abstract class BaseTest {
 
-    protected static Playwright playwright;
-    protected static Browser browser;
+    @RegisterExtension
+    static final BeforeAllCallback browserPool = BrowserPool::register;
+
+    @RegisterExtension
+    static final BeforeAllCallback stubBackend = StubBackend::register;
+
+    @RegisterExtension
+    static final BeforeAllCallback runReports = RunReports::register;
+
+    @RegisterExtension
+    static final BeforeAllCallback impactMap = ImpactMap::register;
+
+    @RegisterExtension
+    static final BeforeAllCallback warmContexts = WarmContexts::register;
+
+    @RegisterExtension
+    final FailureFlag failure = new FailureFlag();
+
+    @RegisterExtension
+    final BeforeEachCallback matrixBrowser = context -> this.browserName =
+            context.getConfigurationParameter(MatrixRunner.BROWSER_PARAMETER).orElse(null);
+
+    protected Browser browser;
     protected BrowserContext context;
     protected Page page;
+    protected final RunProfile profile = RunProfile.current();
+    protected String testId;
+    protected String browserName;
+    // Test id prefixed with the browser in matrix executions; keeps per-test artifacts and reports apart
+    private String artifactId;
+    private HarArchive harArchive;
+    private TraceRecorder traceRecorder;
+    private String stubSession;
+    private TestDataFactory dataFactory;
+    private Class<?> testClass;
+    private WarmContexts.Warm warm;
+    private NetworkStats networkStats;
 
-    protected static final String BASE_URL = "https://avito-tech-internship-psi.vercel.app";
+    @BeforeEach
+    void createContextAndPage(TestInfo testInfo) {
+        testId = testInfo.getTestClass().map(Class::getSimpleName).orElse("unknown") + "/" +
+                testInfo.getTestMethod().map(Method::getName).orElse("unknown");
+        ImpactRecorder.begin();
+        browser = browserName != null ? BrowserPool.browser(browserName) : BrowserPool.browser();
+        // Matrix executions run the same test at the same time: keep their traces, recordings and reports apart
+        artifactId = browserName != null ? browserName + "/" + testId : testId;
+        traceRecorder = TraceRecorder.forTest(profile, artifactId);
+        harArchive = HarArchive.forTest(profile, artifactId);
+        testClass = getClass();
+        warm = WarmContexts.isEnabled(testClass, profile) ? WarmContexts.acquire(testClass, this::openContext) : null;
+        WarmContexts.Warm opened = warm != null ? warm : openContext();
+        context = opened.context;
+        page = opened.page;
+        stubSession = opened.stubSession;
+        if (warm == null || warm.isFirstUse()) {
+            traceRecorder.start(context, testId);
+        } else {
+            traceRecorder.startChunk(context, testId);
+        }
+        // Every route (HAR, stub, request blocking) turns the context's HTTP cache off
+        boolean routed = harArchive.mode() != HarArchive.Mode.OFF || stubSession != null
+                || ResourcePolicy.fromProfile(profile).isActive();
+        networkStats = NetworkStats.isEnabled() ? NetworkStats.attach(context, routed) : null;
+    }
 
-    @BeforeAll
-    static void launchBrowser() {
-        playwright = Playwright.create();
-        browser = playwright.chromium().launch(new BrowserType.LaunchOptions()
-                .setHeadless(true)
-                .setSlowMo(100));
+    private WarmContexts.Warm openContext() {
+        BrowserContext context = browser.newContext(profile.contextOptions());
+        String stubSession = null;
+        try {
+            harArchive.attach(context);
+            if (WebPerf.isEnabled()) {
+                WebPerf.install(context);
+            }
+            if (StubBackend.isEnabled()) {
+                // API calls go to this test's (or warm context's) own fork of the stand-in backend
+                stubSession = StubBackend.get().fork();
+                StubBackend.get().route(context, profile.get("apiPattern"), stubSession);
+            }
+            // Registered last so it sees every request first; allowed ones fall back to the routes above
+            ResourcePolicy.fromProfile(profile).attach(context);
+            Page page = context.newPage();
+            page.setDefaultTimeout(profile.defaultTimeout());
+            return new WarmContexts.Warm(context, page, stubSession);
+        } catch (RuntimeException e) {
+            // e.g. no recording in strict replay: the test fails, the context must not outlive it
+            context.close();
+            if (stubSession != null) {
+                StubBackend.get().release(stubSession);
+            }
+            throw e;
+        }
     }
 
-    @AfterAll
-    static void closeBrowser() {
-        if (browser != null) {
-            browser.close();
+    @AfterEach
+    void closeContext(TestReporter reporter) {
+        List<String> overBudget = new ArrayList<>();
+        boolean tornDown = false;
+        try {
+            ImpactMap.record(artifactId, ImpactRecorder.end());
+            List<PageMetrics> pageMetrics = WebPerf.drain();
+            WebPerf.record(artifactId, pageMetrics);
+            pageMetrics.forEach(m -> reporter.publishEntry("webPerf." + m.getPageName(), m.toJson().toString()));
+            overBudget.addAll(WebPerf.budgetViolations(profile, pageMetrics));
+            if (networkStats != null) {
+                networkStats.detach();
+                networkStats.record(artifactId);
+                reporter.publishEntry("network", networkStats.toJson().toString());
+                overBudget.addAll(networkStats.budgetViolations(profile));
+            }
+            if (dataFactory != null) {
+                // Deletes everything the test seeded
+                dataFactory.close();
+            }
+            if (context != null) {
+                // The trace chunk is kept only for a failed test
+                traceRecorder.finish(context, failure.isFailed());
+            }
+            tornDown = true;
+        } finally {
+            releaseContext(tornDown);
         }
-        if (playwright != null) {
-            playwright.close();
+        if (harArchive != null) {
+            harArchive.verify();
+        }
+        if (!overBudget.isEmpty()) {
+            throw new AssertionError("Performance budget exceeded:\n  " + String.join("\n  ", overBudget));
         }
     }
 
-    @BeforeEach
-    void createContextAndPage() {
-        context = browser.newContext(new Browser.NewContextOptions()
-                .setViewportSize(1920, 1080));
-        page = context.newPage();
-        page.setDefaultTimeout(30000);
+    private void releaseContext(boolean tornDown) {
+        try {
+            if (context != null) {
+                if (warm != null) {
+                    // A failed test or teardown may leave any state behind; so may a reset that could not be verified
+                    if (failure.isFailed() || !tornDown || !WarmContexts.reset(warm)) {
+                        WarmContexts.discard(testClass, warm);
+                    }
+                } else {
+                    // Closing the context also writes the HAR file in record mode
+                    context.close();
+                }
+            }
+        } finally {
+            if (stubSession != null && warm == null) {
+                StubBackend.get().release(stubSession);
+            }
+        }
     }
 
-    @AfterEach
-    void closeContext() {
-        if (context != null) {
-            context.close();
+    /**
+     * True when preconditions can be seeded over the API: stub mode or an apiUrl in the profile
+     */
+    protected boolean hasDataApi() {
+        return StubBackend.isEnabled() || profile.get("apiUrl") != null;
+    }
+
+    /**
+     * API data factory bound to this test (and its stub session); seeded data is removed after the test
+     */
+    protected TestDataFactory data() {
+        if (dataFactory == null) {
+            if (!hasDataApi()) {
+                throw new IllegalStateException("No data API: run with -Dstub=true or -DapiUrl=<tracker API>");
+            }
+            String apiUrl = StubBackend.isEnabled() ? StubBackend.get().url() : profile.get("apiUrl");
+            Map<String, String> headers = stubSession != null
+                    ? Map.of(TaskTrackerStub.SESSION_HEADER, stubSession)
+                    : Map.of();
+            dataFactory = new TestDataFactory(
+                    browserName != null ? BrowserPool.playwright(browserName) : BrowserPool.playwright(), apiUrl, headers);
         }
+        return dataFactory;
     }
 
     protected void navigateTo(String path) {
-        page.navigate(BASE_URL + path);
+        page.navigate(profile.baseUrl() + path);
         page.waitForLoadState();
     }
 }
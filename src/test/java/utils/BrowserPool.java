@@ -0,0 +1,110 @@
+package utils;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Playwright;
+import config.RunProfile;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Thread-confined pool of Playwright drivers and browsers.
+ * Playwright objects are not thread-safe, so every JUnit worker thread
+ * lazily gets its own Playwright + Browser pair per browser type and keeps it for the whole run.
+ * All pairs are closed once, when the run ends (see {@link RunScope}).
+ */
+public final class BrowserPool {
+
+    private static final ThreadLocal<Map<String, Entry>> CURRENT = ThreadLocal.withInitial(HashMap::new);
+    private static final Queue<Entry> ALL = new ConcurrentLinkedQueue<>();
+
+    private BrowserPool() {
+    }
+
+    /**
+     * Registers pool shutdown with the end of the run (once per run)
+     */
+    public static void register(ExtensionContext context) {
+        RunScope.onClose(context, BrowserPool.class, BrowserPool::closeAll);
+    }
+
+    /**
+     * Returns the profile's browser owned by the calling thread, launching it on first use
+     */
+    public static Browser browser() {
+        return browser(RunProfile.current().browser());
+    }
+
+    /**
+     * Returns the calling thread's browser of the given type (chromium, firefox or webkit), launching it on first use
+     */
+    public static Browser browser(String name) {
+        Map<String, Entry> owned = CURRENT.get();
+        Entry entry = owned.get(name);
+        if (entry == null || !entry.browser.isConnected()) {
+            if (entry != null) {
+                ALL.remove(entry);
+                entry.close();
+            }
+            entry = launch(name);
+            owned.put(name, entry);
+            ALL.add(entry);
+        }
+        return entry.browser;
+    }
+
+    /**
+     * Returns the Playwright driver owned by the calling thread
+     */
+    public static Playwright playwright() {
+        return playwright(RunProfile.current().browser());
+    }
+
+    public static Playwright playwright(String name) {
+        browser(name);
+        return CURRENT.get().get(name).playwright;
+    }
+
+    /**
+     * Number of browsers currently held by the pool
+     */
+    public static int size() {
+        return ALL.size();
+    }
+
+    private static Entry launch(String name) {
+        RunProfile profile = RunProfile.current();
+        Playwright playwright = Playwright.create();
+        Browser browser = RunProfile.browserType(playwright, name).launch(profile.launchOptions());
+        return new Entry(playwright, browser);
+    }
+
+    static void closeAll() {
+        Entry entry;
+        while ((entry = ALL.poll()) != null) {
+            entry.close();
+        }
+    }
+
+    private static final class Entry {
+        final Playwright playwright;
+        final Browser browser;
+
+        Entry(Playwright playwright, Browser browser) {
+            this.playwright = playwright;
+            this.browser = browser;
+        }
+
+        void close() {
+            try {
+                browser.close();
+            } catch (Exception e) {
+                // Browser may already be gone
+            }
+            playwright.close();
+        }
+    }
+}
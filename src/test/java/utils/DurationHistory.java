@@ -0,0 +1,193 @@
+package utils;
+
+import config.RunProfile;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test duration history ("SearchTaskTests/testSearchByName=1830", milliseconds, smoothed over runs),
+ * kept in historyDir/durations.properties (default .test-history) and used to balance shards and order tests.
+ * Tests whose last run failed are listed in historyDir/failed.txt.
+ * New results are merged into the files as they are on disk at save time, so concurrent runs do not lose entries.
+ */
+public final class DurationHistory {
+
+    // Weight of the newest measurement in the smoothed duration
+    private static final double WEIGHT = 0.5;
+
+    private static final long DEFAULT_ESTIMATE_MS = 1000;
+
+    private final Path file;
+    private final Path failedFile;
+    private final Map<String, Long> durations;
+    private final Set<String> failed;
+    private final Map<String, Long> measured = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> outcomes = new ConcurrentHashMap<>();
+
+    private DurationHistory(Path dir) {
+        this.file = dir.resolve("durations.properties");
+        this.failedFile = dir.resolve("failed.txt");
+        this.durations = new ConcurrentHashMap<>(read(file));
+        this.failed = ConcurrentHashMap.newKeySet();
+        this.failed.addAll(readFailed(failedFile));
+    }
+
+    public static DurationHistory load(RunProfile profile) {
+        return load(Path.of(profile.get("historyDir", ".test-history")));
+    }
+
+    public static DurationHistory load(Path dir) {
+        return new DurationHistory(dir);
+    }
+
+    /**
+     * History key of a test method: "SimpleClassName/method", as BaseTest.testId; null for other sources
+     */
+    public static String testId(TestSource source) {
+        if (!(source instanceof MethodSource)) {
+            return null;
+        }
+        MethodSource method = (MethodSource) source;
+        return testId(method.getClassName(), method.getMethodName());
+    }
+
+    public static String testId(String className, String methodName) {
+        return classKey(className) + "/" + methodName;
+    }
+
+    /**
+     * Simple class name, the prefix of all test ids of the class
+     */
+    public static String classKey(String className) {
+        return className.substring(Math.max(className.lastIndexOf('.'), className.lastIndexOf('$')) + 1);
+    }
+
+    public OptionalLong get(String testId) {
+        Long millis = durations.get(testId);
+        return millis != null ? OptionalLong.of(millis) : OptionalLong.empty();
+    }
+
+    public Map<String, Long> asMap() {
+        return new TreeMap<>(durations);
+    }
+
+    /**
+     * Known durations, with unknown tests estimated at the mean of the known ones among them
+     */
+    public Map<String, Long> estimates(Collection<String> testIds) {
+        Map<String, Long> estimates = new HashMap<>();
+        long known = 0;
+        int knownCount = 0;
+        for (String testId : testIds) {
+            Long millis = durations.get(testId);
+            if (millis != null) {
+                estimates.put(testId, millis);
+                known += millis;
+                knownCount++;
+            }
+        }
+        long fallback = knownCount > 0 ? known / knownCount : DEFAULT_ESTIMATE_MS;
+        testIds.forEach(testId -> estimates.putIfAbsent(testId, fallback));
+        return estimates;
+    }
+
+    public boolean failedLastRun(String testId) {
+        return failed.contains(testId);
+    }
+
+    public void record(String testId, long millis) {
+        measured.put(testId, millis);
+        durations.merge(testId, millis, DurationHistory::smooth);
+    }
+
+    public void recordOutcome(String testId, boolean passed) {
+        outcomes.put(testId, passed);
+        if (passed) {
+            failed.remove(testId);
+        } else {
+            failed.add(testId);
+        }
+    }
+
+    public boolean hasMeasurements() {
+        return !measured.isEmpty() || !outcomes.isEmpty();
+    }
+
+    /**
+     * Merges this run's measurements and outcomes into the history files
+     */
+    public synchronized void save() {
+        Map<String, Long> merged = new TreeMap<>(read(file));
+        measured.forEach((testId, millis) -> merged.merge(testId, millis, DurationHistory::smooth));
+        Properties properties = new Properties();
+        merged.forEach((testId, millis) -> properties.setProperty(testId, Long.toString(millis)));
+
+        Set<String> mergedFailed = new TreeSet<>(readFailed(failedFile));
+        outcomes.forEach((testId, passed) -> {
+            if (passed) {
+                mergedFailed.remove(testId);
+            } else {
+                mergedFailed.add(testId);
+            }
+        });
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tmp = Files.createTempFile(file.toAbsolutePath().getParent(), "durations", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                properties.store(writer, "Smoothed test durations in ms");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.write(failedFile, mergedFailed, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        measured.clear();
+        outcomes.clear();
+    }
+
+    private static long smooth(long previous, long latest) {
+        return Math.round(previous * (1 - WEIGHT) + latest * WEIGHT);
+    }
+
+    private static List<String> readFailed(Path file) {
+        try {
+            return Files.exists(file) ? Files.readAllLines(file, StandardCharsets.UTF_8) : List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Long> read(Path file) {
+        Map<String, Long> durations = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        properties.stringPropertyNames().forEach(key -> durations.put(key, Long.parseLong(properties.getProperty(key).trim())));
+        return durations;
+    }
+}
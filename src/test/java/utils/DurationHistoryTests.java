@@ -0,0 +1,77 @@
+package utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Smoothing, estimates and merging on save of the test duration history
+ */
+@DisplayName("История длительностей: сглаживание и слияние")
+public class DurationHistoryTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Новое измерение усредняется с прошлым значением")
+    public void testRecordSmoothsWithPrevious() {
+        DurationHistory history = DurationHistory.load(dir);
+
+        history.record("A/a", 1000);
+        history.record("A/a", 2000);
+
+        assertEquals(1500, history.get("A/a").getAsLong());
+    }
+
+    @Test
+    @DisplayName("Сохранение сглаживает каждое измерение с файлом один раз")
+    public void testSaveSmoothsOnceAgainstDisk() {
+        DurationHistory first = DurationHistory.load(dir);
+        first.record("A/a", 1000);
+        first.save();
+
+        DurationHistory second = DurationHistory.load(dir);
+        second.record("A/a", 3000);
+        second.save();
+
+        assertEquals(2000, DurationHistory.load(dir).get("A/a").getAsLong());
+    }
+
+    @Test
+    @DisplayName("Параллельные запуски не теряют записи друг друга")
+    public void testConcurrentSavesMerge() {
+        DurationHistory left = DurationHistory.load(dir);
+        DurationHistory right = DurationHistory.load(dir);
+        left.record("A/a", 1000);
+        right.record("B/b", 2000);
+        right.recordOutcome("B/b", false);
+
+        left.save();
+        right.save();
+
+        DurationHistory merged = DurationHistory.load(dir);
+        assertEquals(Map.of("A/a", 1000L, "B/b", 2000L), merged.asMap());
+        assertTrue(merged.failedLastRun("B/b"));
+        assertFalse(merged.failedLastRun("A/a"));
+    }
+
+    @Test
+    @DisplayName("Неизвестные тесты оцениваются средним известных")
+    public void testEstimatesFallBackToMean() {
+        DurationHistory history = DurationHistory.load(dir);
+        history.record("A/a", 1000);
+        history.record("B/b", 3000);
+
+        Map<String, Long> estimates = history.estimates(List.of("A/a", "B/b", "C/c"));
+
+        assertEquals(2000, estimates.get("C/c"));
+        assertEquals(1000, DurationHistory.load(dir).estimates(List.of("C/c")).get("C/c"));
+    }
+}
@@ -0,0 +1,90 @@
+package utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import config.RunProfile;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures every test method, merges the durations and pass/fail outcomes into the local {@link DurationHistory}
+ * (historyDir, used for ordering) at the end of the run and, when sharded, writes this shard's results to
+ * target/shards/shard-&lt;index&gt;-of-&lt;count&gt;.json for {@link ShardResults} to merge into the shared shard history.
+ * Only passed tests contribute durations: failures often stop early and would understate them.
+ */
+public class DurationRecorder implements TestExecutionListener {
+
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+    private final Map<String, JsonObject> results = new ConcurrentHashMap<>();
+    private DurationHistory history;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        history = DurationHistory.load(RunProfile.current());
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier identifier) {
+        if (identifier.isTest()) {
+            started.put(identifier.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier identifier, String reason) {
+        String testId = DurationHistory.testId(identifier.getSource().orElse(null));
+        if (testId != null) {
+            results.put(testId, result(testId, "SKIPPED", 0));
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+        Long start = started.remove(identifier.getUniqueId());
+        String testId = DurationHistory.testId(identifier.getSource().orElse(null));
+        if (start == null || testId == null) {
+            return;
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        // Aborted tests (failed assumptions) say nothing about the outcome
+        if (result.getStatus() == TestExecutionResult.Status.SUCCESSFUL) {
+            history.record(testId, millis);
+            history.recordOutcome(testId, true);
+        } else if (result.getStatus() == TestExecutionResult.Status.FAILED) {
+            history.recordOutcome(testId, false);
+        }
+        results.put(testId, result(testId, result.getStatus().name(), millis));
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (history != null && history.hasMeasurements()) {
+            history.save();
+        }
+        RunProfile profile = RunProfile.current();
+        int shardCount = profile.getInt("shardCount", 1);
+        if (shardCount > 1 && !results.isEmpty()) {
+            int shardIndex = profile.getInt("shardIndex", 0);
+            JsonObject report = new JsonObject();
+            report.addProperty("shardIndex", shardIndex);
+            report.addProperty("shardCount", shardCount);
+            JsonArray tests = new JsonArray();
+            results.keySet().stream().sorted().forEach(testId -> tests.add(results.get(testId)));
+            report.add("tests", tests);
+            ShardResults.write(ShardResults.DIR.resolve("shard-" + shardIndex + "-of-" + shardCount + ".json"), report);
+        }
+    }
+
+    private static JsonObject result(String testId, String status, long millis) {
+        JsonObject o = new JsonObject();
+        o.addProperty("id", testId);
+        o.addProperty("status", status);
+        o.addProperty("durationMs", millis);
+        return o;
+    }
+}
@@ -0,0 +1,38 @@
+package utils;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.opentest4j.TestAbortedException;
+
+/**
+ * Remembers whether the current test (or its @BeforeEach) failed, so @AfterEach methods can react
+ * before JUnit reports the result. Register as an instance field with @RegisterExtension.
+ */
+public class FailureFlag implements TestExecutionExceptionHandler, LifecycleMethodExecutionExceptionHandler {
+
+    private volatile boolean failed;
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        flag(throwable);
+        throw throwable;
+    }
+
+    @Override
+    public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        flag(throwable);
+        throw throwable;
+    }
+
+    private void flag(Throwable throwable) {
+        // Failed assumptions skip the test rather than fail it
+        if (!(throwable instanceof TestAbortedException)) {
+            failed = true;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package utils;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.options.HarMode;
+import com.microsoft.playwright.options.HarNotFound;
+import com.microsoft.playwright.options.RouteFromHarUpdateContentPolicy;
+import config.RunProfile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Offline HAR record/replay of a test's network traffic.
+ * Controlled by the "har" profile key:
+ * record - traffic goes to the network and is saved to harDir/&lt;Class&gt;/&lt;method&gt;.har on context close;
+ * replay - requests are served from the recording, unmatched ones go to the network;
+ * strict - like replay, but unmatched requests are aborted and fail the test.
+ */
+public class HarArchive {
+
+    public enum Mode { OFF, RECORD, REPLAY, STRICT }
+
+    private final Mode mode;
+    private final Path file;
+    private final List<String> unmatched = new CopyOnWriteArrayList<>();
+
+    private HarArchive(Mode mode, Path file) {
+        this.mode = mode;
+        this.file = file;
+    }
+
+    public static HarArchive forTest(RunProfile profile, String testId) {
+        Mode mode = Mode.valueOf(profile.get("har", "off").toUpperCase());
+        Path dir = Path.of(profile.get("harDir", "src/test/resources/har"));
+        return new HarArchive(mode, dir.resolve(testId + ".har"));
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    public void attach(BrowserContext context) {
+        switch (mode) {
+            case RECORD:
+                try {
+                    Files.createDirectories(file.getParent());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                context.routeFromHAR(file, new BrowserContext.RouteFromHAROptions()
+                        .setUpdate(true)
+                        .setUpdateContent(RouteFromHarUpdateContentPolicy.EMBED)
+                        .setUpdateMode(HarMode.MINIMAL));
+                break;
+            case STRICT:
+                // Registered first, so it only sees requests the HAR route falls back on
+                context.route("**/*", route -> {
+                    unmatched.add(route.request().method() + " " + route.request().url());
+                    route.abort();
+                });
+                // fall through
+            case REPLAY:
+                if (!Files.exists(file)) {
+                    throw new IllegalStateException("No HAR recording " + file + ", run once with -Dhar=record");
+                }
+                context.routeFromHAR(file, new BrowserContext.RouteFromHAROptions()
+                        .setNotFound(HarNotFound.FALLBACK));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * In strict mode, fails if any request had no recorded response
+     */
+    public void verify() {
+        if (mode == Mode.STRICT && !unmatched.isEmpty()) {
+            throw new AssertionError("Requests not found in " + file + ":\n  " + String.join("\n  ", unmatched));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package utils;
+
+import config.RunProfile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Selects the tests affected by a git diff of src/main/java/pages using the {@link ImpactMap}.
+ * Changed lines are attributed to the member (method or constant) they belong to, e.g. "BoardPage.TODO_COLUMN".
+ * A test is selected when it used a changed member; inherited methods count for the page classes extending
+ * the changed class. For members no test recorded (helpers, new code, class-level changes) every test that
+ * used the class is selected, and for classes no test recorded (BasePage internals, SelectorCache, ...)
+ * all tests are. Tests without impact data are always selected.
+ * Run with: mvn exec:java -Dexec.classpathScope=test -Dexec.mainClass=utils.ImpactAnalysis -Dexec.args=origin/main
+ */
+public final class ImpactAnalysis {
+
+    private static final String PAGES_DIR = "src/main/java/pages";
+    private static final String PAGES_PACKAGE = "pages.";
+    private static final String CLASS_LEVEL = "<class>";
+    private static final Pattern FILE = Pattern.compile("^\\+\\+\\+ b/(.+)$|^--- a/(.+)$");
+    private static final Pattern HUNK = Pattern.compile("^@@ -(\\d+)(?:,\\d+)? \\+(\\d+)(?:,\\d+)? @@");
+    // A class member starts at one level of indentation (this repo uses four spaces)
+    private static final Pattern MEMBER = Pattern.compile("^    (?![\\s}@]|//|/\\*|\\*)(.*)$");
+    private static final Pattern METHOD_NAME = Pattern.compile("(\\w+)\\s*\\(");
+    private static final Pattern FIELD_NAME = Pattern.compile("(\\w+)\\s*(?:=|;)");
+
+    private ImpactAnalysis() {
+    }
+
+    public static void main(String[] args) {
+        String base = args.length > 0 ? args[0] : RunProfile.current().get("impactBase", "HEAD");
+        Set<String> changed = changedMembers(base);
+        Map<String, Set<String>> impact = ImpactMap.load(RunProfile.current());
+        Set<String> selected = select(changed, impact);
+        System.out.println("Changed since " + base + ": " + changed);
+        System.out.println("Selected " + selected.size() + " of " + impact.size() + " recorded tests");
+        System.out.println(selected.isEmpty() ? "(none)" : "-Dtest=" + testFilter(selected));
+    }
+
+    /**
+     * "Class.member" for every member touched by the diff against the base ref (working tree included);
+     * "Class.&lt;class&gt;" for changes outside members and for added or deleted files
+     */
+    public static Set<String> changedMembers(String base) {
+        return changedMembers(git("diff", "-U0", "--no-color", base, "--", PAGES_DIR),
+                path -> git("show", base + ":" + path), path -> readLines(Path.of(path)));
+    }
+
+    /**
+     * Members touched by a -U0 diff, given the old and new contents of the files by path
+     */
+    static Set<String> changedMembers(List<String> diff, Function<String, List<String>> oldFiles,
+                                      Function<String, List<String>> newFiles) {
+        Set<String> changed = new TreeSet<>();
+        String oldPath = null;
+        String newPath = null;
+        List<String> oldLines = List.of();
+        List<String> newLines = List.of();
+        int oldLine = 0;
+        int newLine = 0;
+        for (String line : diff) {
+            Matcher file = FILE.matcher(line);
+            Matcher hunk = HUNK.matcher(line);
+            if (line.startsWith("--- ")) {
+                oldPath = file.matches() ? file.group(2) : null;
+                oldLines = oldPath != null ? oldFiles.apply(oldPath) : List.of();
+            } else if (line.startsWith("+++ ")) {
+                newPath = file.matches() ? file.group(1) : null;
+                newLines = newPath != null ? newFiles.apply(newPath) : List.of();
+                if (oldPath == null || newPath == null) {
+                    changed.add(className(oldPath != null ? oldPath : newPath) + "." + CLASS_LEVEL);
+                }
+            } else if (hunk.find()) {
+                oldLine = Integer.parseInt(hunk.group(1));
+                newLine = Integer.parseInt(hunk.group(2));
+            } else if (line.startsWith("-") && oldPath != null) {
+                addMember(changed, oldPath, oldLines, oldLine++, line.substring(1));
+            } else if (line.startsWith("+") && newPath != null) {
+                addMember(changed, newPath, newLines, newLine++, line.substring(1));
+            }
+        }
+        return changed;
+    }
+
+    private static void addMember(Set<String> changed, String path, List<String> lines, int lineNo, String text) {
+        String trimmed = text.trim();
+        // Blank and comment-only lines do not change behaviour
+        if (trimmed.isEmpty() || trimmed.startsWith("//") || trimmed.startsWith("*") || trimmed.startsWith("/*")) {
+            return;
+        }
+        String className = className(path);
+        String member = CLASS_LEVEL;
+        for (int i = Math.min(lineNo, lines.size()) - 1; i >= 0; i--) {
+            Matcher m = MEMBER.matcher(lines.get(i));
+            if (m.matches()) {
+                member = memberName(m.group(1), className);
+                break;
+            }
+        }
+        changed.add(className + "." + member);
+    }
+
+    private static String memberName(String declaration, String className) {
+        int paren = declaration.indexOf('(');
+        int assign = declaration.indexOf('=');
+        Matcher m;
+        if (paren >= 0 && (assign < 0 || paren < assign) && (m = METHOD_NAME.matcher(declaration)).find()) {
+            // Constructor changes affect every use of the class
+            return m.group(1).equals(className) ? CLASS_LEVEL : m.group(1);
+        }
+        if ((m = FIELD_NAME.matcher(declaration)).find()) {
+            return m.group(1);
+        }
+        return CLASS_LEVEL;
+    }
+
+    /**
+     * Test ids affected by the changed members; tests missing from the impact map are returned by the caller
+     */
+    public static Set<String> select(Set<String> changed, Map<String, Set<String>> impact) {
+        Set<String> selected = new TreeSet<>();
+        for (String element : changed) {
+            String className = element.substring(0, element.indexOf('.'));
+            String member = element.substring(element.indexOf('.') + 1);
+            Set<String> users = users(impact, used -> used.equals(element));
+            if (users.isEmpty() && !CLASS_LEVEL.equals(member)) {
+                // Inherited methods are recorded under the concrete page classes extending the changed one
+                users = users(impact, used -> used.endsWith("." + member)
+                        && extendsPage(used.substring(0, used.indexOf('.')), className));
+            }
+            if (users.isEmpty()) {
+                users = users(impact, used -> used.startsWith(className + "."));
+            }
+            if (users.isEmpty()) {
+                return new TreeSet<>(impact.keySet());
+            }
+            selected.addAll(users);
+        }
+        return selected;
+    }
+
+    /**
+     * Whether pages.&lt;pageClass&gt; is a proper subclass of the class with the given simple name
+     */
+    static boolean extendsPage(String pageClass, String baseClass) {
+        Class<?> c;
+        try {
+            c = Class.forName(PAGES_PACKAGE + pageClass);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+        for (c = c.getSuperclass(); c != null; c = c.getSuperclass()) {
+            if (c.getSimpleName().equals(baseClass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> users(Map<String, Set<String>> impact, Predicate<String> matches) {
+        return impact.entrySet().stream()
+                .filter(e -> e.getValue().stream().anyMatch(matches))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Surefire -Dtest value: "BoardNavigationTests#testA+testB,TaskCardTests#testC"
+     */
+    static String testFilter(Set<String> testIds) {
+        Map<String, List<String>> byClass = new TreeMap<>();
+        testIds.forEach(id -> byClass.computeIfAbsent(id.substring(0, id.indexOf('/')), k -> new ArrayList<>())
+                .add(id.substring(id.indexOf('/') + 1)));
+        return byClass.entrySet().stream()
+                .map(e -> e.getKey() + "#" + String.join("+", e.getValue()))
+                .collect(Collectors.joining(","));
+    }
+
+    private static String className(String path) {
+        String fileName = Path.of(path).getFileName().toString();
+        return fileName.endsWith(".java") ? fileName.substring(0, fileName.length() - 5) : fileName;
+    }
+
+    private static List<String> readLines(Path file) {
+        try {
+            return Files.exists(file) ? Files.readAllLines(file, StandardCharsets.UTF_8) : List.of();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<String> git(String... args) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        Collections.addAll(command, args);
+        try {
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            List<String> lines = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8)
+                    .lines().collect(Collectors.toList());
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException("git " + String.join(" ", args) + " failed");
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Attribution of diff lines to page-object members and selection of the affected tests
+ */
+@DisplayName("Анализ влияния: разбор diff и выбор тестов")
+public class ImpactAnalysisTests {
+
+    private static final List<String> OLD_BOARD_PAGE = List.of(
+            "package pages;",
+            "",
+            "public class BoardPage extends BasePage {",
+            "",
+            "    private static final String TODO_COLUMN = \".column:has-text('To Do')\";",
+            "",
+            "    public BoardPage(Page page) {",
+            "        super(page);",
+            "    }",
+            "",
+            "    public void open(String boardId) {",
+            "        // navigate",
+            "        page.navigate(boardId);",
+            "    }",
+            "}");
+
+    private static final List<String> NEW_BOARD_PAGE = List.of(
+            "package pages;",
+            "",
+            "public class BoardPage extends BasePage {",
+            "",
+            "    private static final String TODO_COLUMN = \"[data-testid='column-todo']\";",
+            "",
+            "    public BoardPage(Page page) {",
+            "        super(page);",
+            "    }",
+            "",
+            "    public void open(String boardId) {",
+            "        // navigate to the board",
+            "        page.navigate(baseUrl() + boardId);",
+            "    }",
+            "}");
+
+    @Test
+    @DisplayName("Изменённые строки относятся к своим константам и методам, комментарии игнорируются")
+    public void testChangedLinesMapToMembers() {
+        List<String> diff = List.of(
+                "diff --git a/src/main/java/pages/BoardPage.java b/src/main/java/pages/BoardPage.java",
+                "--- a/src/main/java/pages/BoardPage.java",
+                "+++ b/src/main/java/pages/BoardPage.java",
+                "@@ -5 +5 @@ public class BoardPage extends BasePage {",
+                "-    private static final String TODO_COLUMN = \".column:has-text('To Do')\";",
+                "+    private static final String TODO_COLUMN = \"[data-testid='column-todo']\";",
+                "@@ -12,2 +12,2 @@ public class BoardPage extends BasePage {",
+                "-        // navigate",
+                "-        page.navigate(boardId);",
+                "+        // navigate to the board",
+                "+        page.navigate(baseUrl() + boardId);");
+
+        Set<String> changed = ImpactAnalysis.changedMembers(diff, path -> OLD_BOARD_PAGE, path -> NEW_BOARD_PAGE);
+
+        assertEquals(Set.of("BoardPage.TODO_COLUMN", "BoardPage.open"), changed);
+    }
+
+    @Test
+    @DisplayName("Правка конструктора и новые файлы относятся ко всему классу")
+    public void testConstructorAndNewFilesAreClassLevel() {
+        List<String> diff = List.of(
+                "--- a/src/main/java/pages/BoardPage.java",
+                "+++ b/src/main/java/pages/BoardPage.java",
+                "@@ -8 +8 @@",
+                "-        super(page);",
+                "+        super(page, RunProfile.current());",
+                "--- /dev/null",
+                "+++ b/src/main/java/pages/ReportsPage.java",
+                "@@ -0,0 +1 @@",
+                "+package pages;");
+
+        Set<String> changed = ImpactAnalysis.changedMembers(diff, path -> OLD_BOARD_PAGE,
+                path -> path.endsWith("BoardPage.java") ? NEW_BOARD_PAGE : List.of("package pages;"));
+
+        assertEquals(Set.of("BoardPage.<class>", "ReportsPage.<class>"), changed);
+    }
+
+    @Test
+    @DisplayName("Выбираются только тесты, использовавшие изменённый член")
+    public void testSelectsUsersOfChangedMember() {
+        Map<String, Set<String>> impact = Map.of(
+                "BoardNavigationTests/testColumns", Set.of("BoardPage.open", "BoardPage.TODO_COLUMN"),
+                "BoardNavigationTests/testTitle", Set.of("BoardPage.open", "BoardPage.getBoardTitle"),
+                "SearchTaskTests/testSearch", Set.of("IssuesPage.open", "IssuesPage.searchTask"));
+
+        assertEquals(Set.of("BoardNavigationTests/testColumns"),
+                ImpactAnalysis.select(Set.of("BoardPage.TODO_COLUMN"), impact));
+    }
+
+    @Test
+    @DisplayName("Унаследованный метод базового класса выбирает тесты наследников")
+    public void testBaseClassMemberSelectsSubclassUsers() {
+        Map<String, Set<String>> impact = Map.of(
+                "BoardNavigationTests/testColumns", Set.of("BoardPage.waitForSettled"),
+                "SearchTaskTests/testSearch", Set.of("IssuesPage.searchTask"));
+
+        assertEquals(Set.of("BoardNavigationTests/testColumns"),
+                ImpactAnalysis.select(Set.of("BasePage.waitForSettled"), impact));
+    }
+
+    @Test
+    @DisplayName("Одноимённый метод другого класса не считается использованием")
+    public void testSameNameInUnrelatedClassIsNotAUse() {
+        Map<String, Set<String>> impact = Map.of(
+                "BoardNavigationTests/testTitle", Set.of("BoardPage.getBoardTitle"),
+                "SearchTaskTests/testSearch", Set.of("IssuesPage.open"));
+
+        // BoardPage.open itself was not recorded: every test of the class runs, not IssuesPage.open users
+        assertEquals(Set.of("BoardNavigationTests/testTitle"),
+                ImpactAnalysis.select(Set.of("BoardPage.open"), impact));
+    }
+
+    @Test
+    @DisplayName("Изменение класса без записей запускает весь набор")
+    public void testUnrecordedClassSelectsEverything() {
+        Map<String, Set<String>> impact = Map.of(
+                "BoardNavigationTests/testTitle", Set.of("BoardPage.getBoardTitle"),
+                "SearchTaskTests/testSearch", Set.of("IssuesPage.open"));
+
+        assertEquals(impact.keySet(), ImpactAnalysis.select(Set.of("SelectorCache.resolve"), impact));
+    }
+
+    @Test
+    @DisplayName("Фильтр Surefire группирует методы по классам")
+    public void testTestFilter() {
+        assertEquals("BoardNavigationTests#testA+testB,TaskCardTests#testC",
+                ImpactAnalysis.testFilter(new TreeSet<>(
+                        Set.of("BoardNavigationTests/testA", "BoardNavigationTests/testB", "TaskCardTests/testC"))));
+    }
+
+    @Test
+    @DisplayName("Записи матричного запуска сводятся к id теста без браузера")
+    public void testMatrixEntriesMapToTestId() {
+        assertEquals("BoardNavigationTests/testA", ImpactMap.testIdOf("firefox/BoardNavigationTests/testA"));
+        assertEquals("BoardNavigationTests/testA", ImpactMap.testIdOf("BoardNavigationTests/testA"));
+    }
+}
@@ -0,0 +1,76 @@
+package utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import config.RunProfile;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * With impactBase=&lt;git ref&gt;, runs only the tests affected by page-object changes since that ref
+ * (see {@link ImpactAnalysis}); tests without impact data always run.
+ * The selection is written to target/reports/impact.json.
+ */
+public class ImpactFilter implements PostDiscoveryFilter {
+
+    private static volatile Selection selection;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        String base = RunProfile.current().get("impactBase");
+        String testId = DurationHistory.testId(descriptor.getSource().orElse(null));
+        if (base == null || base.isBlank() || testId == null) {
+            return FilterResult.included("no impact selection");
+        }
+        Selection current = selection(base);
+        return !current.impact.containsKey(testId) || current.selected.contains(testId)
+                ? FilterResult.included("affected by changes since " + base)
+                : FilterResult.excluded("not affected by changes since " + base);
+    }
+
+    private static Selection selection(String base) {
+        Selection current = selection;
+        if (current == null) {
+            synchronized (ImpactFilter.class) {
+                if (selection == null) {
+                    Map<String, Set<String>> impact = ImpactMap.load(RunProfile.current());
+                    Set<String> changed = ImpactAnalysis.changedMembers(base);
+                    selection = new Selection(impact, ImpactAnalysis.select(changed, impact));
+                    RunReports.write("impact.json", report(base, changed, selection));
+                }
+                current = selection;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * {"base": "origin/main", "changed": ["BoardPage.open", ...], "recordedTests": 42, "selected": ["BoardNavigationTests/testA", ...]}
+     */
+    private static JsonObject report(String base, Set<String> changed, Selection selection) {
+        JsonObject report = new JsonObject();
+        report.addProperty("base", base);
+        JsonArray changedJson = new JsonArray();
+        changed.forEach(changedJson::add);
+        report.add("changed", changedJson);
+        report.addProperty("recordedTests", selection.impact.size());
+        JsonArray selected = new JsonArray();
+        selection.selected.forEach(selected::add);
+        report.add("selected", selected);
+        return report;
+    }
+
+    private static final class Selection {
+        final Map<String, Set<String>> impact;
+        final Set<String> selected;
+
+        Selection(Map<String, Set<String>> impact, Set<String> selected) {
+            this.impact = impact;
+            this.selected = selected;
+        }
+    }
+}
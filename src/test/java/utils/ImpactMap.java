@@ -0,0 +1,114 @@
+package utils;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import config.RunProfile;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test -> used page-object elements ("BoardNavigationTests/testDirectBoardNavigation" -> ["BoardPage.TODO_COLUMN",
+ * "BoardPage.open", ...]), recorded by {@link impact.ImpactRecorder} and merged into historyDir/impact.json
+ * at the end of the run. Tests that did not run keep their previous entries.
+ * Matrix executions are recorded per browser ("chromium/BoardNavigationTests/...") and loaded merged by test id.
+ */
+public final class ImpactMap {
+
+    private static final Map<String, Set<String>> RECORDED = new ConcurrentHashMap<>();
+
+    private ImpactMap() {
+    }
+
+    public static void register(ExtensionContext context) {
+        RunScope.onClose(context, ImpactMap.class, ImpactMap::save);
+    }
+
+    /**
+     * Records the elements used by a test; the id may carry a browser prefix (see {@link #testIdOf(String)})
+     */
+    public static void record(String artifactId, Set<String> used) {
+        // Nothing used means the test failed before reaching the pages; keep the previous entry
+        if (!used.isEmpty()) {
+            RECORDED.put(artifactId, new TreeSet<>(used));
+        }
+    }
+
+    /**
+     * "chromium/Class/method" -> "Class/method"; test ids without a browser prefix are returned as they are
+     */
+    static String testIdOf(String artifactId) {
+        int first = artifactId.indexOf('/');
+        return first >= 0 && artifactId.indexOf('/', first + 1) >= 0 ? artifactId.substring(first + 1) : artifactId;
+    }
+
+    static Path file(RunProfile profile) {
+        return Path.of(profile.get("historyDir", ".test-history"), "impact.json");
+    }
+
+    /**
+     * Test id -> elements used by the test in any browser
+     */
+    public static Map<String, Set<String>> load(RunProfile profile) {
+        Map<String, Set<String>> map = new TreeMap<>();
+        read(file(profile)).forEach((artifactId, used) ->
+                map.computeIfAbsent(testIdOf(artifactId), k -> new TreeSet<>()).addAll(used));
+        return map;
+    }
+
+    private static Map<String, Set<String>> read(Path file) {
+        Map<String, Set<String>> map = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return map;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            JsonParser.parseReader(reader).getAsJsonObject().entrySet().forEach(e -> {
+                Set<String> used = new TreeSet<>();
+                e.getValue().getAsJsonArray().forEach(element -> used.add(element.getAsString()));
+                map.put(e.getKey(), used);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return map;
+    }
+
+    static synchronized void save() {
+        if (RECORDED.isEmpty()) {
+            return;
+        }
+        RunProfile profile = RunProfile.current();
+        Map<String, Set<String>> merged = read(file(profile));
+        merged.putAll(RECORDED);
+        JsonObject json = new JsonObject();
+        merged.forEach((testId, used) -> {
+            JsonArray array = new JsonArray();
+            used.forEach(array::add);
+            json.add(testId, array);
+        });
+        write(file(profile), json);
+    }
+
+    private static void write(Path file, JsonElement content) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(content),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
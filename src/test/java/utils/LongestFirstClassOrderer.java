@@ -0,0 +1,47 @@
+package utils;
+
+import config.RunProfile;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Starts the test classes with the largest total recorded duration first (see {@link LongestFirstMethodOrderer}).
+ * With failedFirst=true, classes with a test that failed in the last run go first.
+ */
+public class LongestFirstClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        RunProfile profile = RunProfile.current();
+        DurationHistory history = DurationHistory.load(profile);
+        boolean failedFirst = profile.getBoolean("failedFirst", false);
+
+        Map<String, Long> totals = new HashMap<>();
+        Map<String, Boolean> failed = new HashMap<>();
+        history.asMap().forEach((testId, millis) -> {
+            String classKey = testId.substring(0, testId.indexOf('/'));
+            totals.merge(classKey, millis, Long::sum);
+            if (history.failedLastRun(testId)) {
+                failed.put(classKey, true);
+            }
+        });
+        // Classes without history are estimated at the mean known class total
+        long fallback = (long) totals.values().stream().mapToLong(Long::longValue).average().orElse(0);
+
+        List<? extends ClassDescriptor> classes = context.getClassDescriptors();
+        classes.sort(Comparator.<ClassDescriptor, Boolean>comparing(
+                        c -> !(failedFirst && failed.containsKey(classKey(c))))
+                .thenComparing(c -> totals.getOrDefault(classKey(c), fallback), Comparator.reverseOrder())
+                .thenComparing(c -> c.getTestClass().getName()));
+    }
+
+    private static String classKey(ClassDescriptor descriptor) {
+        return DurationHistory.classKey(descriptor.getTestClass().getName());
+    }
+}
@@ -0,0 +1,48 @@
+package utils;
+
+import config.RunProfile;
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Starts the slowest test methods first according to the {@link DurationHistory}, so parallel
+ * runs do not end waiting on a long test started last. With failedFirst=true, tests that failed
+ * in the last run go before all others. Ties (e.g. no history yet) keep the {@link Order} sequence.
+ */
+public class LongestFirstMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        RunProfile profile = RunProfile.current();
+        DurationHistory history = DurationHistory.load(profile);
+        boolean failedFirst = profile.getBoolean("failedFirst", false);
+        String className = context.getTestClass().getName();
+        List<? extends MethodDescriptor> methods = context.getMethodDescriptors();
+        Map<MethodDescriptor, String> testIds = methods.stream().collect(Collectors.toMap(m -> m,
+                m -> DurationHistory.testId(className, m.getMethod().getName())));
+        Map<String, Long> estimates = history.estimates(testIds.values());
+
+        methods.sort(Comparator.<MethodDescriptor, Boolean>comparing(
+                        m -> !(failedFirst && history.failedLastRun(testIds.get(m))))
+                .thenComparing(m -> estimates.get(testIds.get(m)), Comparator.reverseOrder())
+                .thenComparingInt(m -> m.findAnnotation(Order.class).map(Order::value).orElse(Order.DEFAULT))
+                .thenComparing(m -> m.getMethod().getName()));
+    }
+
+    /**
+     * Tests are independent, so ordering only decides which start first; they still run concurrently
+     */
+    @Override
+    public Optional<ExecutionMode> getDefaultExecutionMode() {
+        return Optional.empty();
+    }
+}
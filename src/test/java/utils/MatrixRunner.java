@@ -0,0 +1,181 @@
+package utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import config.RunProfile;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Cross-browser matrix: runs the test classes on several browsers at once in one JVM,
+ * one launcher execution per browser, each with its own worker threads and {@link BrowserPool} browsers.
+ * Results are printed and written per browser to target/reports/matrix.json; a test whose outcome
+ * differs between browsers is tagged "browser-specific". Exits with 1 if any test failed.
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=utils.MatrixRunner
+ * [-Dbrowsers=chromium,firefox,webkit] [-Dthreads=N per browser]
+ */
+public final class MatrixRunner {
+
+    /**
+     * Configuration parameter carrying the execution's browser to {@link BaseTest}
+     */
+    public static final String BROWSER_PARAMETER = "matrix.browser";
+    static final String BROWSER_SPECIFIC = "browser-specific";
+    private static final String[] EXCLUDED_TAGS = {"leak", "perf"};
+
+    private MatrixRunner() {
+    }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        RunProfile profile = RunProfile.current();
+        List<String> browsers = Arrays.stream(profile.get("browsers", "chromium,firefox,webkit").split(","))
+                .map(String::trim)
+                .filter(b -> !b.isEmpty())
+                .collect(Collectors.toList());
+        // The cores are shared by all browsers unless -Dthreads sets the per-browser parallelism
+        String threads = profile.get("threads",
+                String.valueOf(Math.max(1, Runtime.getRuntime().availableProcessors() / browsers.size())));
+        String testPackage = profile.get("shardPackage", "tests");
+
+        ExecutorService executor = Executors.newFixedThreadPool(browsers.size());
+        Map<String, Future<Outcomes>> runs = new LinkedHashMap<>();
+        for (String browser : browsers) {
+            runs.put(browser, executor.submit(() -> run(browser, threads, testPackage)));
+        }
+        Map<String, Outcomes> outcomes = new LinkedHashMap<>();
+        for (Map.Entry<String, Future<Outcomes>> run : runs.entrySet()) {
+            outcomes.put(run.getKey(), run.getValue().get());
+        }
+        executor.shutdown();
+
+        JsonObject report = report(outcomes);
+        RunReports.write("matrix.json", report);
+        print(report);
+        boolean failed = outcomes.values().stream()
+                .anyMatch(o -> o.statuses.containsValue(TestExecutionResult.Status.FAILED.name()));
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static Outcomes run(String browser, String threads, String testPackage) {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(DiscoverySelectors.selectPackage(testPackage))
+                // Same tags as surefire leaves out of a plain run
+                .filters(TagFilter.excludeTags(EXCLUDED_TAGS))
+                .configurationParameter(BROWSER_PARAMETER, browser)
+                .configurationParameter(PoolParallelism.THREADS_PARAMETER, threads)
+                .build();
+        // Durations of browsers running side by side are not comparable with the single-browser history
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .build());
+        Outcomes outcomes = new Outcomes();
+        launcher.execute(request, outcomes);
+        return outcomes;
+    }
+
+    private static JsonObject report(Map<String, Outcomes> outcomes) {
+        JsonObject report = new JsonObject();
+        JsonObject summary = new JsonObject();
+        Set<String> testIds = new TreeSet<>();
+        outcomes.forEach((browser, o) -> {
+            JsonObject counts = new JsonObject();
+            new TreeMap<>(o.statuses.values().stream()
+                    .collect(Collectors.groupingBy(s -> s, Collectors.counting())))
+                    .forEach(counts::addProperty);
+            summary.add(browser, counts);
+            testIds.addAll(o.statuses.keySet());
+        });
+        report.add("summary", summary);
+
+        JsonArray tests = new JsonArray();
+        for (String testId : testIds) {
+            JsonObject test = new JsonObject();
+            test.addProperty("id", testId);
+            JsonObject results = new JsonObject();
+            JsonObject errors = new JsonObject();
+            Set<String> distinct = new HashSet<>();
+            outcomes.forEach((browser, o) -> {
+                String status = o.statuses.getOrDefault(testId, "NOT_RUN");
+                results.addProperty(browser, status);
+                distinct.add(status);
+                if (o.errors.containsKey(testId)) {
+                    errors.addProperty(browser, o.errors.get(testId));
+                }
+            });
+            test.add("results", results);
+            if (errors.size() > 0) {
+                test.add("errors", errors);
+            }
+            JsonArray tags = new JsonArray();
+            if (distinct.size() > 1) {
+                tags.add(BROWSER_SPECIFIC);
+            }
+            test.add("tags", tags);
+            tests.add(test);
+        }
+        report.add("tests", tests);
+        return report;
+    }
+
+    private static void print(JsonObject report) {
+        report.getAsJsonObject("summary").entrySet()
+                .forEach(e -> System.out.printf("%-10s %s%n", e.getKey(), e.getValue()));
+        report.getAsJsonArray("tests").forEach(element -> {
+            JsonObject test = element.getAsJsonObject();
+            if (test.getAsJsonArray("tags").size() > 0) {
+                System.out.printf("%s %s %s%n", BROWSER_SPECIFIC, test.get("id").getAsString(), test.get("results"));
+            }
+        });
+        System.out.println("Matrix report: target/reports/matrix.json");
+    }
+
+    /**
+     * Test id -> status (SUCCESSFUL, FAILED, ABORTED, SKIPPED) and failure message of one browser's execution
+     */
+    private static final class Outcomes implements TestExecutionListener {
+        final Map<String, String> statuses = new ConcurrentHashMap<>();
+        final Map<String, String> errors = new ConcurrentHashMap<>();
+
+        @Override
+        public void executionSkipped(TestIdentifier identifier, String reason) {
+            String testId = DurationHistory.testId(identifier.getSource().orElse(null));
+            if (testId != null) {
+                statuses.put(testId, "SKIPPED");
+            }
+        }
+
+        @Override
+        public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+            String testId = DurationHistory.testId(identifier.getSource().orElse(null));
+            if (testId == null || !identifier.isTest()) {
+                return;
+            }
+            statuses.put(testId, result.getStatus().name());
+            result.getThrowable().ifPresent(t -> errors.put(testId, String.valueOf(t.getMessage()).lines()
+                    .findFirst().orElse(t.getClass().getName())));
+        }
+    }
+}
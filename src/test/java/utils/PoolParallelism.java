@@ -0,0 +1,61 @@
+package utils;
+
+import config.RunProfile;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * JUnit parallel execution strategy sized for {@link BrowserPool}.
+ * Every worker thread owns a browser, so the pool is capped at the configured
+ * parallelism instead of growing compensation threads (and extra browsers).
+ * Sized by the {@link #THREADS_PARAMETER} configuration parameter (set per execution by {@link MatrixRunner}),
+ * else by the run profile's "threads" key (-Dthreads=N), else the number of available cores.
+ */
+public class PoolParallelism implements ParallelExecutionConfigurationStrategy {
+
+    public static final String THREADS_PARAMETER = "junit.jupiter.execution.parallel.config.threads";
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters parameters) {
+        // The strategy sees the parameters relative to "junit.jupiter.execution.parallel.config."
+        int threads = parameters.get("threads", Integer::parseInt)
+                .orElseGet(() -> RunProfile.current().getInt("threads", Runtime.getRuntime().availableProcessors()));
+        int parallelism = Math.max(1, threads);
+
+        return new ParallelExecutionConfiguration() {
+            @Override
+            public int getParallelism() {
+                return parallelism;
+            }
+
+            @Override
+            public int getMinimumRunnable() {
+                return parallelism;
+            }
+
+            @Override
+            public int getMaxPoolSize() {
+                return parallelism;
+            }
+
+            @Override
+            public int getCorePoolSize() {
+                return parallelism;
+            }
+
+            @Override
+            public int getKeepAliveSeconds() {
+                return 30;
+            }
+
+            @Override
+            public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+                return pool -> true;
+            }
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package utils;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import config.RunProfile;
+import metrics.NetworkStats;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Drops requests no assertion depends on (images, fonts, analytics beacons, third-party scripts)
+ * to cut page load time and bandwidth. Controlled by profile keys:
+ * blockTypes - Playwright resource types (image, font, media, stylesheet, script, ...);
+ * blockUrls / allowUrls - comma-separated URL globs where * matches anything; allowUrls wins.
+ * Blocked requests are counted by resource type and host for target/reports/resources.json.
+ * Only URLs that can be blocked are routed (blockUrls, plus file extensions of the blocked types), so other
+ * requests skip the round trip to the Java handler. Resource types without a file extension (xhr, fetch,
+ * document, ...) need every request routed. Note that any route on the context, this one as well as
+ * the stub and HAR routes, turns the browser HTTP cache off (see NetworkStats).
+ */
+public class ResourcePolicy {
+
+    private static final Map<String, LongAdder> BLOCKED_TYPES = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> BLOCKED_HOSTS = new ConcurrentHashMap<>();
+    private static final LongAdder PASSED = new LongAdder();
+    // URL forms of the resource types that have one: path ends with the extension, query and fragment ignored
+    private static final Map<String, String> TYPE_EXTENSIONS = Map.of(
+            "image", "png|jpe?g|gif|webp|avif|svg|ico|bmp",
+            "font", "woff2?|ttf|otf|eot",
+            "media", "mp4|webm|ogv|ogg|mp3|wav|m4a",
+            "stylesheet", "css",
+            "script", "m?js");
+
+    private final Set<String> blockTypes;
+    private final List<Pattern> blockUrls;
+    private final List<Pattern> allowUrls;
+
+    private ResourcePolicy(Set<String> blockTypes, List<Pattern> blockUrls, List<Pattern> allowUrls) {
+        this.blockTypes = blockTypes;
+        this.blockUrls = blockUrls;
+        this.allowUrls = allowUrls;
+    }
+
+    public static ResourcePolicy fromProfile(RunProfile profile) {
+        return of(profile.get("blockTypes"), profile.get("blockUrls"), profile.get("allowUrls"));
+    }
+
+    static ResourcePolicy of(String blockTypes, String blockUrls, String allowUrls) {
+        return new ResourcePolicy(new TreeSet<>(list(blockTypes)), globs(blockUrls), globs(allowUrls));
+    }
+
+    public boolean isActive() {
+        return !blockTypes.isEmpty() || !blockUrls.isEmpty();
+    }
+
+    /**
+     * Routes the blockable requests of the context through the policy. Register after the other routes:
+     * the last registered handler runs first, and allowed requests fall back to the HAR/stub routes.
+     */
+    public void attach(BrowserContext context) {
+        if (!isActive()) {
+            return;
+        }
+        context.route(routePattern(), route -> {
+            Request request = route.request();
+            if (blocks(request)) {
+                BLOCKED_TYPES.computeIfAbsent(request.resourceType(), k -> new LongAdder()).increment();
+                BLOCKED_HOSTS.computeIfAbsent(host(request.url()), k -> new LongAdder()).increment();
+                NetworkStats.blocked(request);
+                route.abort("blockedbyclient");
+            } else {
+                PASSED.increment();
+                route.fallback();
+            }
+        });
+    }
+
+    /**
+     * One regex (Java and JavaScript compatible, matched in the browser driver) for all URLs the policy may block
+     */
+    Pattern routePattern() {
+        List<String> alternatives = new ArrayList<>();
+        for (String type : blockTypes) {
+            String extensions = TYPE_EXTENSIONS.get(type);
+            if (extensions == null) {
+                return Pattern.compile(".*");
+            }
+            alternatives.add("^[^?#]*\\.(?:" + extensions + ")(?:[?#].*)?$");
+        }
+        blockUrls.forEach(p -> alternatives.add(p.pattern()));
+        return Pattern.compile(alternatives.stream().map(a -> "(?:" + a + ")").collect(Collectors.joining("|")),
+                Pattern.CASE_INSENSITIVE);
+    }
+
+    boolean blocks(Request request) {
+        String url = request.url();
+        if (allowUrls.stream().anyMatch(p -> p.matcher(url).matches())) {
+            return false;
+        }
+        return blockTypes.contains(request.resourceType()) || blockUrls.stream().anyMatch(p -> p.matcher(url).matches());
+    }
+
+    /**
+     * "passed" counts routed requests that were let through.
+     * {"passed": 412, "blockedByType": {"image": 120, ...}, "blockedByHost": {"fonts.gstatic.com": 30, ...}}
+     */
+    public static JsonObject report() {
+        JsonObject report = new JsonObject();
+        report.addProperty("passed", PASSED.sum());
+        report.add("blockedByType", counts(BLOCKED_TYPES));
+        report.add("blockedByHost", counts(BLOCKED_HOSTS));
+        return report;
+    }
+
+    private static JsonObject counts(Map<String, LongAdder> counters) {
+        JsonObject o = new JsonObject();
+        counters.entrySet().stream()
+                .sorted(Map.Entry.<String, LongAdder>comparingByValue((a, b) -> Long.compare(b.sum(), a.sum())))
+                .forEach(e -> o.addProperty(e.getKey(), e.getValue().sum()));
+        return o;
+    }
+
+    private static String host(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : url;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static List<String> list(String value) {
+        if (value == null || value.isBlank()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).collect(Collectors.toList());
+    }
+
+    /**
+     * Anchored regexes escaped with backslashes rather than \Q..\E, which JavaScript does not know
+     */
+    private static List<Pattern> globs(String value) {
+        return list(value).stream()
+                .map(glob -> Pattern.compile("^" + Arrays.stream(glob.split("\\*", -1))
+                        .map(part -> part.replaceAll("[\\\\^$.|?+()\\[\\]{}]", "\\\\$0"))
+                        .collect(Collectors.joining(".*")) + "$"))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,60 @@
+package utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Narrow route pattern of the request blocking policy
+ */
+@DisplayName("Блокировка ресурсов: шаблон перехватываемых URL")
+public class ResourcePolicyTests {
+
+    @Test
+    @DisplayName("Типы с расширением перехватывают только свои файлы")
+    public void testTypesRouteOnlyTheirExtensions() {
+        Pattern pattern = ResourcePolicy.of("image,font", "", "").routePattern();
+
+        assertTrue(routes(pattern, "https://cdn.example.com/logo.PNG"));
+        assertTrue(routes(pattern, "https://cdn.example.com/a/photo.jpeg?w=200#top"));
+        assertTrue(routes(pattern, "https://fonts.gstatic.com/s/roboto.woff2"));
+        assertFalse(routes(pattern, "https://tracker.example.com/api/v1/tasks"));
+        assertFalse(routes(pattern, "https://tracker.example.com/app.js"));
+        assertFalse(routes(pattern, "https://tracker.example.com/search?q=logo.png"));
+    }
+
+    @Test
+    @DisplayName("Тип без расширения перехватывает все запросы")
+    public void testTypeWithoutExtensionRoutesEverything() {
+        Pattern pattern = ResourcePolicy.of("image,xhr", "", "").routePattern();
+
+        assertTrue(routes(pattern, "https://tracker.example.com/api/v1/tasks"));
+    }
+
+    @Test
+    @DisplayName("Glob из blockUrls: * — любые символы, остальное буквально")
+    public void testBlockUrlGlobs() {
+        Pattern pattern = ResourcePolicy.of("", "*mc.yandex.ru*,*/_vercel/insights/*", "").routePattern();
+
+        assertTrue(routes(pattern, "https://mc.yandex.ru/watch/1"));
+        assertTrue(routes(pattern, "https://tracker.example.com/_vercel/insights/script.js"));
+        assertFalse(routes(pattern, "https://mcXyandex.ru/watch/1"));
+        assertFalse(routes(pattern, "https://tracker.example.com/api/v1/tasks"));
+    }
+
+    @Test
+    @DisplayName("Шаблон без \\Q..\\E, чтобы его понимал драйвер браузера")
+    public void testPatternIsJavaScriptCompatible() {
+        String source = ResourcePolicy.of("image", "*/a(b)?c*", "").routePattern().pattern();
+
+        assertFalse(source.contains("\\Q"));
+        assertTrue(source.contains("/a\\(b\\)\\?c"));
+    }
+
+    private static boolean routes(Pattern pattern, String url) {
+        return pattern.matcher(url).find();
+    }
+}
@@ -0,0 +1,21 @@
+package utils;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opt-in for read-only test classes: the class's tests share one warm context and page per worker thread.
+ * Between tests cookies and storage are cleared and the reset is verified; page objects then open pages
+ * with client-side route changes and fall back to a full navigation when the app state is not fresh.
+ * Ignored while HAR record/replay is on (recordings are per test); disable with -DreuseContext=false.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ReuseContext {
+}
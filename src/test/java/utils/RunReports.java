@@ -0,0 +1,60 @@
+package utils;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import metrics.LeakCheck;
+import metrics.Latency;
+import metrics.NetworkStats;
+import metrics.SearchLatency;
+import metrics.WebPerf;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import pages.SelectorCache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Machine-readable run reports, written to target/reports once the whole run has finished
+ */
+public final class RunReports {
+
+    private static final Path DIR = Path.of("target", "reports");
+
+    // file name -> report content, evaluated at the end of the run
+    private static final Map<String, Supplier<JsonElement>> REPORTS = Map.of(
+            "selectors.json", SelectorCache::report,
+            "latency.json", Latency::report,
+            "webperf.json", WebPerf::report,
+            "network.json", NetworkStats::report,
+            "leaks.json", LeakCheck::report,
+            "search-latency.json", SearchLatency::report,
+            "resources.json", ResourcePolicy::report
+    );
+
+    private RunReports() {
+    }
+
+    public static void register(ExtensionContext context) {
+        RunScope.onClose(context, RunReports.class, RunReports::writeAll);
+    }
+
+    static void writeAll() {
+        REPORTS.forEach((name, report) -> write(name, report.get()));
+    }
+
+    public static void write(String name, JsonElement report) {
+        try {
+            Files.createDirectories(DIR);
+            Files.writeString(DIR.resolve(name),
+                    new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(report),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package utils;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Run-level resources closed once the last JUnit root context in the JVM is closed.
+ * A normal run has a single root; {@link MatrixRunner} runs one execution per browser concurrently,
+ * and the first one to finish must not close the stub, browsers or reports under the others.
+ * Closers run in reverse registration order.
+ */
+final class RunScope {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(RunScope.class);
+    private static final Map<Object, Runnable> CLOSERS = new LinkedHashMap<>();
+    private static int openRoots;
+
+    private RunScope() {
+    }
+
+    /**
+     * Runs the closer (once per key) when the run ends
+     */
+    static void onClose(ExtensionContext context, Object key, Runnable closer) {
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(RunScope.class, k -> {
+            synchronized (CLOSERS) {
+                openRoots++;
+            }
+            return (ExtensionContext.Store.CloseableResource) RunScope::rootClosed;
+        }, ExtensionContext.Store.CloseableResource.class);
+        synchronized (CLOSERS) {
+            CLOSERS.putIfAbsent(key, closer);
+        }
+    }
+
+    private static void rootClosed() {
+        List<Runnable> closers;
+        synchronized (CLOSERS) {
+            if (--openRoots > 0) {
+                return;
+            }
+            closers = new ArrayList<>(CLOSERS.values());
+            CLOSERS.clear();
+        }
+        Collections.reverse(closers);
+        closers.forEach(Runnable::run);
+    }
+}
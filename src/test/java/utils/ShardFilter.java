@@ -0,0 +1,117 @@
+package utils;
+
+import config.RunProfile;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+
+/**
+ * Keeps only this shard's test methods when shardCount &gt; 1 (shardIndex is 0-based).
+ * The split is planned once per JVM over all methods of shardPackage (default "tests"), independent of
+ * how the build tool batches discovery requests: methods are assigned longest-first to the least loaded
+ * shard using the shared {@link DurationHistory} in shardHistory (default shard-history, committed and updated
+ * only by the {@link ShardResults} merge step), so every shard reads the same history and computes the same split.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    // test id -> shard index, planned on first use
+    private static volatile Map<String, Integer> assignment;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        RunProfile profile = RunProfile.current();
+        int shardCount = profile.getInt("shardCount", 1);
+        String testId = DurationHistory.testId(descriptor.getSource().orElse(null));
+        if (shardCount <= 1 || testId == null) {
+            return FilterResult.included("not sharded");
+        }
+        int shardIndex = profile.getInt("shardIndex", 0);
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("shardIndex must be in [0, " + shardCount + "): " + shardIndex);
+        }
+        // Methods outside the planned package are spread by hash
+        Integer shard = assignment(profile, shardCount).get(testId);
+        int target = shard != null ? shard : Math.floorMod(testId.hashCode(), shardCount);
+        return target == shardIndex
+                ? FilterResult.included("in shard " + shardIndex)
+                : FilterResult.excluded("in shard " + target);
+    }
+
+    private static Map<String, Integer> assignment(RunProfile profile, int shardCount) {
+        Map<String, Integer> planned = assignment;
+        if (planned == null) {
+            synchronized (ShardFilter.class) {
+                if (assignment == null) {
+                    assignment = plan(discoverTestIds(profile.get("shardPackage", "tests")),
+                            DurationHistory.load(sharedHistoryDir(profile)), shardCount);
+                }
+                planned = assignment;
+            }
+        }
+        return planned;
+    }
+
+    private static List<String> discoverTestIds(String packageName) {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectPackage(packageName))
+                .build();
+        // Without auto-registered filters, so this discovery is not sharded itself
+        TestPlan plan = LauncherFactory.create(LauncherConfig.builder()
+                        .enablePostDiscoveryFilterAutoRegistration(false)
+                        .build())
+                .discover(request);
+        TreeSet<String> testIds = new TreeSet<>();
+        plan.getRoots().forEach(root -> plan.getDescendants(root).stream()
+                .map(TestIdentifier::getSource)
+                .map(source -> DurationHistory.testId(source.orElse(null)))
+                .filter(id -> id != null)
+                .forEach(testIds::add));
+        return new ArrayList<>(testIds);
+    }
+
+    /**
+     * Directory of the history all shards plan from; never written by the shards themselves
+     */
+    static Path sharedHistoryDir(RunProfile profile) {
+        return Path.of(profile.get("shardHistory", "shard-history"));
+    }
+
+    /**
+     * Longest processing time first: test id -&gt; shard index
+     */
+    static Map<String, Integer> plan(List<String> testIds, DurationHistory history, int shardCount) {
+        Map<String, Long> estimates = history.estimates(testIds);
+        List<String> order = new ArrayList<>(testIds);
+        order.sort(Comparator.<String>comparingLong(estimates::get).reversed().thenComparing(Comparator.naturalOrder()));
+
+        long[] loads = new long[shardCount];
+        Map<String, Integer> assignment = new HashMap<>();
+        for (String testId : order) {
+            int target = 0;
+            for (int s = 1; s < shardCount; s++) {
+                if (loads[s] < loads[target]) {
+                    target = s;
+                }
+            }
+            loads[target] += estimates.get(testId);
+            assignment.put(testId, target);
+        }
+        return assignment;
+    }
+}
@@ -0,0 +1,58 @@
+package utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Longest-first split of test methods between shards
+ */
+@DisplayName("Шардирование: распределение по длительности")
+public class ShardFilterTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Самые долгие тесты уходят в наименее загруженный шард")
+    public void testLongestFirstToLeastLoaded() {
+        DurationHistory history = history(Map.of("A/a", 8000L, "B/b", 5000L, "C/c", 4000L, "D/d", 3000L, "E/e", 1000L));
+
+        Map<String, Integer> plan = ShardFilter.plan(List.of("A/a", "B/b", "C/c", "D/d", "E/e"), history, 2);
+
+        // 8 -> 0; 5 -> 1; 4 -> 1 (9); 3 -> 0 (11); 1 -> 1 (10)
+        assertEquals(Map.of("A/a", 0, "B/b", 1, "C/c", 1, "D/d", 0, "E/e", 1), plan);
+    }
+
+    @Test
+    @DisplayName("Одна история и один набор дают одно разбиение независимо от порядка")
+    public void testPlanIsDeterministic() {
+        DurationHistory history = history(Map.of("A/a", 2000L, "B/b", 2000L));
+        List<String> testIds = List.of("A/a", "B/b", "C/c", "D/d");
+
+        assertEquals(ShardFilter.plan(testIds, history, 3),
+                ShardFilter.plan(List.of("D/d", "C/c", "B/b", "A/a"), history, 3));
+    }
+
+    @Test
+    @DisplayName("Без истории тесты делятся поровну")
+    public void testEmptyHistorySplitsEvenly() {
+        Map<String, Integer> plan = ShardFilter.plan(List.of("A/a", "B/b", "C/c", "D/d"), DurationHistory.load(dir), 2);
+
+        assertEquals(2, plan.values().stream().filter(shard -> shard == 0).count());
+        assertEquals(2, plan.values().stream().filter(shard -> shard == 1).count());
+    }
+
+    private DurationHistory history(Map<String, Long> durations) {
+        DurationHistory history = DurationHistory.load(dir);
+        durations.forEach(history::record);
+        history.save();
+        return DurationHistory.load(dir);
+    }
+}
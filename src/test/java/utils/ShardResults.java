@@ -0,0 +1,97 @@
+package utils;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import config.RunProfile;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Merge step for sharded runs: combines the shard-*.json files of a directory (default target/shards)
+ * into merged.json, folds their raw durations once into the shared shard history (shardHistory, see
+ * {@link ShardFilter}) and exits with 1 if any test failed. The updated history is the input of the next
+ * sharded run: commit it or pass it to every shard as an artifact.
+ * Run with: mvn exec:java -Dexec.classpathScope=test -Dexec.mainClass=utils.ShardResults [-Dexec.args=dir]
+ */
+public final class ShardResults {
+
+    static final Path DIR = Path.of("target", "shards");
+
+    private ShardResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = args.length > 0 ? Path.of(args[0]) : DIR;
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.filter(f -> f.getFileName().toString().matches("shard-\\d+-of-\\d+\\.json"))
+                    .sorted().collect(Collectors.toList());
+        }
+        DurationHistory history = DurationHistory.load(ShardFilter.sharedHistoryDir(RunProfile.current()));
+        JsonArray tests = new JsonArray();
+        Map<String, Integer> statuses = new TreeMap<>();
+        for (Path file : files) {
+            JsonObject shard;
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                shard = JsonParser.parseReader(reader).getAsJsonObject();
+            }
+            long shardMillis = 0;
+            for (JsonElement element : shard.getAsJsonArray("tests")) {
+                JsonObject test = element.getAsJsonObject();
+                String status = test.get("status").getAsString();
+                long millis = test.get("durationMs").getAsLong();
+                shardMillis += millis;
+                statuses.merge(status, 1, Integer::sum);
+                // Shard files hold raw durations; failed tests keep only their outcome
+                if ("SUCCESSFUL".equals(status)) {
+                    history.record(test.get("id").getAsString(), millis);
+                    history.recordOutcome(test.get("id").getAsString(), true);
+                } else if ("FAILED".equals(status)) {
+                    history.recordOutcome(test.get("id").getAsString(), false);
+                }
+                test.addProperty("shardIndex", shard.get("shardIndex").getAsInt());
+                tests.add(test);
+            }
+            System.out.printf("%s: %d tests, %.1f s%n", file.getFileName(), shard.getAsJsonArray("tests").size(),
+                    shardMillis / 1000.0);
+        }
+        if (history.hasMeasurements()) {
+            history.save();
+        }
+
+        JsonObject merged = new JsonObject();
+        merged.addProperty("shards", files.size());
+        JsonObject summary = new JsonObject();
+        statuses.forEach(summary::addProperty);
+        merged.add("summary", summary);
+        merged.add("tests", tests);
+        write(dir.resolve("merged.json"), merged);
+        System.out.println("Total: " + statuses);
+        if (statuses.getOrDefault("FAILED", 0) > 0) {
+            System.exit(1);
+        }
+    }
+
+    static void write(Path file, JsonElement content) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(content),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package utils;
+
+import config.RunProfile;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import stub.TaskTrackerStub;
+import stub.TrackerState;
+
+/**
+ * Shared stand-in backend for the test run, enabled with -Dstub=true.
+ * Started once per JVM; every test forks its own session from the seed state.
+ */
+public final class StubBackend {
+
+    private static volatile TaskTrackerStub stub;
+
+    private StubBackend() {
+    }
+
+    public static boolean isEnabled() {
+        return RunProfile.current().getBoolean("stub", false);
+    }
+
+    /**
+     * Starts the stub (once per run) and closes it at the end of the run
+     */
+    public static void register(ExtensionContext context) {
+        if (isEnabled()) {
+            RunScope.onClose(context, StubBackend.class, StubBackend::close);
+            get();
+        }
+    }
+
+    public static TaskTrackerStub get() {
+        if (stub == null) {
+            synchronized (StubBackend.class) {
+                if (stub == null) {
+                    stub = TaskTrackerStub.start(TrackerState.seed(), RunProfile.current().getInt("stubPort", 0));
+                }
+            }
+        }
+        return stub;
+    }
+
+    private static synchronized void close() {
+        if (stub != null) {
+            stub.close();
+            stub = null;
+        }
+    }
+}
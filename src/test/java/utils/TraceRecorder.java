@@ -0,0 +1,131 @@
+package utils;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Tracing;
+import config.RunProfile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Playwright tracing (screenshots, DOM snapshots, network) for every test, recorded as one chunk per test.
+ * Controlled by the "trace" profile key: on-failure keeps the chunk in traceDir/&lt;Class&gt;/&lt;method&gt;.zip
+ * only when the test failed and discards it otherwise; off disables tracing.
+ * Kept traces form a ring buffer: the oldest are deleted once traceDir exceeds traceBudgetMb.
+ * Open a trace with: mvn exec:java -e -D exec.mainClass=com.microsoft.playwright.CLI -D exec.args="show-trace &lt;zip&gt;"
+ */
+public class TraceRecorder {
+
+    private final boolean enabled;
+    private final Path dir;
+    private final Path file;
+    private final long budgetBytes;
+
+    private TraceRecorder(boolean enabled, Path dir, Path file, long budgetBytes) {
+        this.enabled = enabled;
+        this.dir = dir;
+        this.file = file;
+        this.budgetBytes = budgetBytes;
+    }
+
+    public static TraceRecorder forTest(RunProfile profile, String testId) {
+        String mode = profile.get("trace", "on-failure");
+        if (!"off".equals(mode) && !"on-failure".equals(mode)) {
+            throw new IllegalArgumentException("Unknown trace mode: " + mode + " (expected off or on-failure)");
+        }
+        Path dir = Path.of(profile.get("traceDir", "target/traces"));
+        return new TraceRecorder("on-failure".equals(mode), dir, dir.resolve(testId + ".zip"),
+                profile.getInt("traceBudgetMb", 500) * 1024L * 1024L);
+    }
+
+    /**
+     * Starts tracing on a new context; the first chunk starts with it
+     */
+    public void start(BrowserContext context, String title) {
+        if (enabled) {
+            context.tracing().start(new Tracing.StartOptions()
+                    .setTitle(title)
+                    .setScreenshots(true)
+                    .setSnapshots(true));
+        }
+    }
+
+    /**
+     * Starts the next chunk on a context that already traced an earlier test
+     */
+    public void startChunk(BrowserContext context, String title) {
+        if (enabled) {
+            context.tracing().startChunk(new Tracing.StartChunkOptions().setTitle(title));
+        }
+    }
+
+    /**
+     * Ends the test's chunk, writing it only if the test failed
+     */
+    public void finish(BrowserContext context, boolean failed) {
+        if (!enabled) {
+            return;
+        }
+        if (!failed) {
+            context.tracing().stopChunk();
+            return;
+        }
+        context.tracing().stopChunk(new Tracing.StopChunkOptions().setPath(file));
+        enforceBudget();
+        System.out.println("Trace of failed test: " + file.toAbsolutePath());
+    }
+
+    /**
+     * Deletes the oldest traces until the directory fits the budget
+     */
+    private void enforceBudget() {
+        synchronized (TraceRecorder.class) {
+            if (!Files.isDirectory(dir)) {
+                return;
+            }
+            List<Path> traces;
+            try (Stream<Path> files = Files.walk(dir)) {
+                traces = files.filter(f -> f.toString().endsWith(".zip"))
+                        .sorted(Comparator.comparing(TraceRecorder::modified))
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            long total = traces.stream().mapToLong(TraceRecorder::size).sum();
+            for (Path trace : traces) {
+                if (total <= budgetBytes || trace.equals(file)) {
+                    break;
+                }
+                total -= size(trace);
+                try {
+                    Files.deleteIfExists(trace);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private static FileTime modified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package utils;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import config.RunProfile;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import pages.SoftNavigation;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Warm contexts of {@link ReuseContext} classes, one per class and worker thread.
+ * Playwright objects are thread-confined, so a warm context is only ever closed by its own thread
+ * (on its next test after the class finished, or when discarded) or at the end of the run.
+ */
+final class WarmContexts {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(WarmContexts.class);
+    private static final String CLEAR_STORAGE = "() => {" +
+            "  try {" +
+            "    localStorage.clear();" +
+            "    sessionStorage.clear();" +
+            "    return localStorage.length === 0 && sessionStorage.length === 0;" +
+            "  } catch (e) {" +
+            "    return true; /* no storage on this document, e.g. about:blank */" +
+            "  }" +
+            "}";
+
+    // Running classes; a class can run in several executions at once in matrix mode
+    private static final Map<Class<?>, Integer> ACTIVE = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<Class<?>, Warm>> OWNED = ThreadLocal.withInitial(HashMap::new);
+    private static final Queue<Warm> ALL = new ConcurrentLinkedQueue<>();
+
+    private WarmContexts() {
+    }
+
+    /**
+     * Warm context, page and stub session shared by the tests of one class on one thread
+     */
+    static final class Warm {
+        final BrowserContext context;
+        final Page page;
+        final String stubSession;
+        private int uses;
+        private boolean closed;
+
+        Warm(BrowserContext context, Page page, String stubSession) {
+            this.context = context;
+            this.page = page;
+            this.stubSession = stubSession;
+        }
+
+        boolean isFirstUse() {
+            return uses == 1;
+        }
+
+        private synchronized void close(boolean releaseSession) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                context.close();
+            } catch (PlaywrightException e) {
+                // browser already gone at the end of the run
+            }
+            if (releaseSession && stubSession != null) {
+                StubBackend.get().release(stubSession);
+            }
+        }
+    }
+
+    /**
+     * BeforeAll hook: tracks @ReuseContext classes while they run and closes what is left at the end of the run
+     */
+    static void register(ExtensionContext context) {
+        Class<?> testClass = context.getRequiredTestClass();
+        if (!AnnotationSupport.isAnnotated(testClass, ReuseContext.class)) {
+            return;
+        }
+        RunScope.onClose(context, WarmContexts.class, WarmContexts::closeAll);
+        ACTIVE.merge(testClass, 1, Integer::sum);
+        context.getStore(NAMESPACE).put(testClass,
+                (ExtensionContext.Store.CloseableResource) () -> ACTIVE.computeIfPresent(testClass, (k, n) -> n > 1 ? n - 1 : null));
+    }
+
+    static boolean isEnabled(Class<?> testClass, RunProfile profile) {
+        return ACTIVE.containsKey(testClass)
+                && profile.getBoolean("reuseContext", true)
+                && "off".equalsIgnoreCase(profile.get("har", "off"));
+    }
+
+    /**
+     * This thread's warm context for the class, created by the factory on first use
+     */
+    static Warm acquire(Class<?> testClass, Supplier<Warm> factory) {
+        Map<Class<?>, Warm> owned = OWNED.get();
+        // Close warm contexts of classes that have finished since this thread last ran a test
+        for (Iterator<Map.Entry<Class<?>, Warm>> it = owned.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Class<?>, Warm> entry = it.next();
+            if (!ACTIVE.containsKey(entry.getKey())) {
+                entry.getValue().close(true);
+                it.remove();
+            }
+        }
+        Warm warm = owned.get(testClass);
+        if (warm == null) {
+            warm = factory.get();
+            SoftNavigation.enable(warm.page);
+            owned.put(testClass, warm);
+            ALL.add(warm);
+        }
+        warm.uses++;
+        return warm;
+    }
+
+    /**
+     * Clears cookies, permissions, storage and extra pages; false if the reset could not be verified
+     */
+    static boolean reset(Warm warm) {
+        try {
+            warm.context.pages().stream().filter(p -> p != warm.page).forEach(Page::close);
+            warm.context.clearCookies();
+            warm.context.clearPermissions();
+            boolean storageCleared = Boolean.TRUE.equals(warm.page.evaluate(CLEAR_STORAGE));
+            return storageCleared && warm.context.cookies().isEmpty();
+        } catch (PlaywrightException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Closes the thread's warm context for the class; the next test starts cold
+     */
+    static void discard(Class<?> testClass, Warm warm) {
+        OWNED.get().remove(testClass, warm);
+        warm.close(true);
+    }
+
+    private static void closeAll() {
+        Warm warm;
+        // The stub backend shuts down with the run as well, so sessions are not released one by one
+        while ((warm = ALL.poll()) != null) {
+            warm.close(false);
+        }
+    }
+}